@@ -40,6 +40,9 @@ android {
 }
 
 dependencies {
+    // Рушій гри (модель, правила, ШІ, контролер) - чистий Java-модуль
+    implementation(project(":checkers-engine"))
+
     // JUnit 5 (Jupiter) залежності для юніт-тестів
     testImplementation(libs.junit.jupiter.api)
     testImplementation(libs.jupiter.junit.jupiter.engine)
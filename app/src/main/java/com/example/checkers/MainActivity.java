@@ -1,27 +1,55 @@
 package com.example.checkers;
 
 import android.annotation.SuppressLint;
+import android.content.pm.PackageManager;
 import android.os.Bundle;
+import android.util.Log;
 import android.widget.Button;
 import android.widget.TextView;
 import android.widget.Toast;
-import com.example.checkers.model.Board;
 
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import com.example.checkers.ai.ComputerPlayer;
-import com.example.checkers.ai.BasicStrategy;
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.EndgameTablebase;
+import com.example.checkers.ai.OpeningBook;
+import com.example.checkers.ai.SearchProgress;
+import com.example.checkers.ai.SearchStrategy;
 import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.GameStore;
+import com.example.checkers.controller.HumanPlayer;
 import com.example.checkers.model.Piece;
 import com.example.checkers.model.Player;
 import com.example.checkers.view.BoardView;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 public class MainActivity extends AppCompatActivity {
+    private static final String TAG = "MainActivity";
+
+    // Файл бази ендшпілю в assets (генерується :checkers-engine:generateTablebase)
+    private static final String TABLEBASE_ASSET = "endgame.cktb";
+
+    // Книга дебютів в assets (генерується :checkers-engine:generateOpeningBook)
+    private static final String OPENING_BOOK_ASSET = "opening.ckob";
+
+    // Файл збереженої партії і ключ у Bundle
+    private static final String SAVED_GAME_FILE = "game.ckgr";
+    private static final String KEY_GAME = "game";
+
     private GameController gameController;
+    private GameStore gameStore;
     private BoardView boardView;
     private TextView gameStatusText;
     private Button newGameButton;
     private Button surrenderButton;
+    private Button undoButton;
+    private Button redoButton;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -36,7 +64,11 @@ public class MainActivity extends AppCompatActivity {
         Player computerPlayer = createComputerPlayer();
 
         // Створення контролера гри
-        gameController = new GameController(humanPlayer, (ComputerPlayer) computerPlayer);
+        // Результати пошуку повертаються в головний потік після анімації попереднього ходу
+        gameController = new GameController(humanPlayer, (ComputerPlayer) computerPlayer,
+                boardView::runAfterAnimations);
+        // Комп'ютер думає і на час людини: передбачений хід дає відповідь майже миттєво
+        gameController.setPonderingEnabled(true);
 
         // Налаштування BoardView
         boardView.setGameController(gameController);
@@ -45,8 +77,39 @@ public class MainActivity extends AppCompatActivity {
         // Додавання слухачів подій для кнопок
         setupButtonListeners();
 
-        // Старт гри
-        startNewGame();
+        // Збережена партія: після повороту - з Bundle, після перезапуску - з файлу, інакше нова гра
+        gameStore = new GameStore(new File(getFilesDir(), SAVED_GAME_FILE),
+                e -> Log.w(TAG, "Cannot save game", e));
+        if (!restoreGame(savedInstanceState)) {
+            startNewGame();
+        }
+    }
+
+    // Відновити партію без відтворення ходів через UI
+    private boolean restoreGame(Bundle savedInstanceState) {
+        try {
+            byte[] data = savedInstanceState != null
+                    ? savedInstanceState.getByteArray(KEY_GAME)
+                    : gameStore.load();
+            if (data == null) {
+                return false;
+            }
+            gameController.restoreGame(data);
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "Cannot restore game", e);
+            return false;
+        }
+
+        boardView.resetBoard();
+        updateGameStatus();
+        // Перервана думка комп'ютера починається заново
+        gameController.requestComputerMove(computerMoveCallback);
+        return true;
+    }
+
+    // Зберегти партію у файл у фоні (після кожного ходу)
+    private void saveGame() {
+        gameStore.saveAsync(gameController.saveGame());
     }
 
     // Ініціалізація UI компонентів
@@ -56,56 +119,156 @@ public class MainActivity extends AppCompatActivity {
         gameStatusText = findViewById(R.id.game_status_text);
         newGameButton = findViewById(R.id.new_game_button);
         surrenderButton = findViewById(R.id.surrender_button);
+        undoButton = findViewById(R.id.undo_button);
+        redoButton = findViewById(R.id.redo_button);
     }
 
     // Створення гравця-людини
     private Player createHumanPlayer() {
-        return new Player("Гравець", Piece.Color.BLACK) {
-            @Override
-            public boolean makeMove(Board board, int fromRow, int fromCol, int toRow, int toCol) {
-                // Реалізація ходу гравця-людини
-                return true;
-            }
-        };
+        return new HumanPlayer("Гравець", Piece.Color.BLACK);
     }
 
     // Створення комп'ютерного гравця
     private Player createComputerPlayer() {
-        BasicStrategy basicStrategy = new BasicStrategy();
-        return new ComputerPlayer("Комп'ютер", Piece.Color.WHITE, basicStrategy);
+        SearchStrategy strategy = new SearchStrategy(AIStrategy.Difficulty.MEDIUM);
+        loadEndgameTablebase(strategy);
+        ComputerPlayer player = new ComputerPlayer("Комп'ютер", Piece.Color.WHITE, strategy);
+        loadOpeningBook(player);
+        return player;
     }
 
+    // Книга невелика, тому читається з assets у пам'ять без копіювання у файл (у фоні)
+    private void loadOpeningBook(ComputerPlayer player) {
+        new Thread(() -> {
+            try (InputStream in = getAssets().open(OPENING_BOOK_ASSET)) {
+                player.setOpeningBook(OpeningBook.load(in));
+            } catch (IOException e) {
+                Log.w(TAG, "Opening book unavailable", e);
+            }
+        }, "opening-book-loader").start();
+    }
+
+    // База ендшпілю копіюється з assets у файл (відображати в пам'ять можна лише файл) у фоні.
+    // Копія оновлюється разом із застосунком, а якщо не відкривається - копіюється ще раз
+    private void loadEndgameTablebase(SearchStrategy strategy) {
+        File file = new File(getFilesDir(), TABLEBASE_ASSET);
+        new Thread(() -> {
+            try {
+                if (!file.exists() || file.lastModified() < appUpdateTime()) {
+                    copyAsset(TABLEBASE_ASSET, file);
+                }
+                EndgameTablebase tablebase;
+                try {
+                    tablebase = EndgameTablebase.open(file);
+                } catch (IOException e) {
+                    Log.w(TAG, "Endgame tablebase copy is stale, copying again", e);
+                    copyAsset(TABLEBASE_ASSET, file);
+                    tablebase = EndgameTablebase.open(file);
+                }
+                strategy.setTablebase(tablebase);
+            } catch (IOException e) {
+                Log.w(TAG, "Endgame tablebase unavailable", e);
+            }
+        }, "tablebase-loader").start();
+    }
+
+    // Скопіювати asset у файл через тимчасовий файл, щоб не лишити обрізану копію
+    private void copyAsset(String asset, File target) throws IOException {
+        File temp = new File(target.getPath() + ".tmp");
+        try (InputStream in = getAssets().open(asset);
+             OutputStream out = new FileOutputStream(temp)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+        if (!temp.renameTo(target)) {
+            throw new IOException("Cannot rename " + temp);
+        }
+    }
+
+    // Час встановлення або останнього оновлення застосунку (0, якщо невідомий)
+    private long appUpdateTime() {
+        try {
+            return getPackageManager().getPackageInfo(getPackageName(), 0).lastUpdateTime;
+        } catch (PackageManager.NameNotFoundException e) {
+            return 0;
+        }
+    }
 
     // Обробка ходу гравця
-    private void handlePlayerMove(int fromRow, int fromCol, int toRow, int toCol) {
-        boolean moveSuccessful = gameController.processPlayerMove(fromRow, fromCol, toRow, toCol);
+    private void handlePlayerMove(int fromRow, int fromCol, int toRow, int toCol, int captured) {
+        boolean moveSuccessful = gameController.processPlayerMove(fromRow, fromCol, toRow, toCol, captured);
 
         if (moveSuccessful) {
+            saveGame();
             updateGameStatus();
 
-            // Хід комп'ютера
-            gameController.processComputerMove();
-
-            updateGameStatus();
+            // Хід комп'ютера рахується у фоновому потоці, UI не блокується
+            gameController.requestComputerMove(computerMoveCallback);
         } else {
             Toast.makeText(this, "Невірний хід", Toast.LENGTH_SHORT).show();
         }
     }
 
+    // Колбек пошуку комп'ютера: прогрес у статусі, після ходу - оновлення дошки
+    private final GameController.ComputerMoveCallback computerMoveCallback =
+            new GameController.ComputerMoveCallback() {
+                @SuppressLint("SetTextI18n")
+                @Override
+                public void onSearchProgress(SearchProgress progress) {
+                    gameStatusText.setText("Комп'ютер думає: глибина " + progress.getDepth()
+                            + ", оцінка " + progress.getScore()
+                            + "\n" + progress.getPrincipalVariation());
+                }
+
+                @Override
+                public void onComputerMoveFinished(boolean moveMade) {
+                    // Дошку перемальовує BoardView за подією ходу
+                    if (moveMade) {
+                        saveGame();
+                    }
+                    updateGameStatus();
+                }
+            };
+
     // Налаштування слухачів для кнопок
     private void setupButtonListeners() {
         newGameButton.setOnClickListener(v -> startNewGame());
 
         surrenderButton.setOnClickListener(v -> {
             gameController.endGame();
+            saveGame();
             Toast.makeText(this, "Ви здалися!", Toast.LENGTH_SHORT).show();
             updateGameStatus();
         });
+
+        undoButton.setOnClickListener(v -> {
+            if (gameController.undoMove()) {
+                onHistoryChanged();
+            }
+        });
+
+        redoButton.setOnClickListener(v -> {
+            if (gameController.redoMove()) {
+                onHistoryChanged();
+            }
+        });
+    }
+
+    // Після скасування/повтору: перемалювати дошку і, якщо черга комп'ютера, запустити пошук
+    private void onHistoryChanged() {
+        saveGame();
+        boardView.resetBoard();
+        updateGameStatus();
+        gameController.requestComputerMove(computerMoveCallback);
     }
 
     // Початок нової гри
     private void startNewGame() {
         gameController.startGame();
+        saveGame();
         boardView.resetBoard();
         updateGameStatus();
     }
@@ -113,6 +276,9 @@ public class MainActivity extends AppCompatActivity {
     // Оновлення статусу гри
     @SuppressLint("SetTextI18n")
     private void updateGameStatus() {
+        undoButton.setEnabled(gameController.canUndo());
+        redoButton.setEnabled(gameController.canRedo());
+
         switch (gameController.getGameState()) {
             case IN_PROGRESS:
                 String currentPlayer = gameController.getCurrentPlayer() instanceof ComputerPlayer
@@ -134,10 +300,30 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
-    // Збереження стану гри при зміні конфігурації
+    // Пондеринг займає всі потоки пошуку - на паузі він зупиняється
+    @Override
+    protected void onPause() {
+        super.onPause();
+        gameController.setPonderingEnabled(false);
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        gameController.setPonderingEnabled(true);
+    }
+
+    @Override
+    protected void onDestroy() {
+        gameController.shutdown();
+        gameStore.shutdown();
+        super.onDestroy();
+    }
+
+    // Збереження стану гри при зміні конфігурації (запис партії - десятки байтів)
     @Override
     protected void onSaveInstanceState(@NonNull Bundle outState) {
         super.onSaveInstanceState(outState);
-        // Можна додати збереження стану гри
+        outState.putByteArray(KEY_GAME, gameController.saveGame());
     }
 }
@@ -2,28 +2,39 @@ package com.example.checkers.view;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
-import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
 
 import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.MoveEvent;
 import com.example.checkers.model.Board;
-import com.example.checkers.model.Piece;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.utils.MoveValidator;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import java.util.List;
+import java.util.ArrayDeque;
 
+// Draws the cached board background and then only pieces and overlays;
+// everything used by onDraw is allocated up front, so a frame allocates nothing.
+// Moves, selection and resets request a frame only when a square actually changed.
+// Moves are animated by MoveAnimator overlays; work queued with runAfterAnimations waits for them.
 public class BoardView extends View {
+    private static final String TAG = "BoardView";
+
     // Board dimensions
     private static final int BOARD_SIZE = 8;
 
+    // Frames per logged frame-time report
+    private static final int FRAME_STATS_WINDOW = 120;
+
     // Paint objects for drawing
     private Paint boardPaint;
     private Paint darkSquarePaint;
@@ -31,11 +42,46 @@ public class BoardView extends View {
     private Paint piecePaint;
     private Paint selectedPiecePaint;
     private Paint possibleMovePaint;
+    private Paint crownPaint;
+
+    // Squares and border, rendered once per size in onSizeChanged
+    private Bitmap background;
+
+    // Geometry derived from the view size
+    private int squareSize;
+    private float pieceRadius;
+
+    // Crown outline around the origin; translated to each king's center
+    private final Path crownPath = new Path();
 
     // Touch and selection tracking
     private int selectedRow = -1;
     private int selectedCol = -1;
 
+    // Dark squares the selected piece can move to (bit per board square), from the controller's move cache
+    private int possibleMoveMask;
+
+    // Capture chains that end on the tapped square; with more than one, the player taps a captured
+    // piece to pick the chain (possibleMoveMask then marks the pieces that tell the chains apart)
+    private final int[] chainMasks = new int[MoveList.CAPACITY];
+    private int chainCount;
+    private int chainRow;
+    private int chainCol;
+
+    // Position as of the last frame, to find the squares a reset changed
+    private int drawnWhite;
+    private int drawnBlack;
+    private int drawnKings;
+
+    private final FrameStats frameStats = new FrameStats(TAG, FRAME_STATS_WINDOW);
+
+    // Move animations; squares whose piece is drawn by an overlay while it moves
+    private MoveAnimator animator;
+    private int hiddenSquares;
+
+    // Tasks waiting for the current animation (e.g. applying the computer's reply)
+    private final ArrayDeque<Runnable> afterAnimations = new ArrayDeque<>();
+
     // Game-related references
     private GameController gameController;
     private Board board;
@@ -45,7 +91,7 @@ public class BoardView extends View {
 
     // Interface for move events
     public interface OnMoveListener {
-        void onMove(int fromRow, int fromCol, int toRow, int toCol);
+        void onMove(int fromRow, int fromCol, int toRow, int toCol, int captured);
     }
 
     // Constructors
@@ -77,20 +123,27 @@ public class BoardView extends View {
         lightSquarePaint = new Paint();
         lightSquarePaint.setColor(Color.LTGRAY);
 
-        piecePaint = new Paint();
+        piecePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         piecePaint.setStyle(Paint.Style.FILL);
 
         selectedPiecePaint = new Paint();
         selectedPiecePaint.setColor(Color.argb(100, 0, 255, 0));
 
-        possibleMovePaint = new Paint();
+        possibleMovePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         possibleMovePaint.setColor(Color.argb(100, 0, 0, 255));
+
+        crownPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        crownPaint.setColor(Color.YELLOW);
+        crownPaint.setStyle(Paint.Style.FILL);
+
+        animator = new MoveAnimator(this);
     }
 
     // Set game controller
     public void setGameController(GameController gameController) {
         this.gameController = gameController;
         this.board = gameController.getBoard();
+        gameController.setMoveListener(this::onMoveMade);
     }
 
     // Set move listener
@@ -98,110 +151,212 @@ public class BoardView extends View {
         this.moveListener = listener;
     }
 
-    // Reset the board
+    // Reset the board (the controller replaces its board on new or restored games)
     public void resetBoard() {
-        selectedRow = -1;
-        selectedCol = -1;
-        invalidate();
+        if (gameController != null) {
+            board = gameController.getBoard();
+        }
+        cancelAnimation();
+        clearSelection();
+        invalidateSquares((drawnWhite ^ board.getWhitePieces()) | (drawnBlack ^ board.getBlackPieces())
+                | (drawnKings ^ board.getKings()));
+    }
+
+    // Redraw the cells a move touched (origin, destination and captured pieces) and animate the move
+    private void onMoveMade(MoveEvent event) {
+        cancelAnimation();
+        invalidateSquares(event.getChangedSquares());
+
+        if (isAttachedToWindow() && animator.animate(event, squareSize, this::onAnimationFinished)) {
+            hiddenSquares = 1 << event.getToSquare();
+        }
+    }
+
+    // Run a task once no move animation is playing (main thread; safe to call from any thread).
+    // Used as the controller's callback executor, so the computer's reply never starts mid-animation
+    public void runAfterAnimations(Runnable task) {
+        post(() -> {
+            if (animator.isRunning()) {
+                afterAnimations.add(task);
+            } else {
+                task.run();
+            }
+        });
+    }
+
+    // Show the moved piece on the board again and run the queued tasks until one starts a new animation
+    private void onAnimationFinished() {
+        invalidateSquares(hiddenSquares);
+        hiddenSquares = 0;
+        while (!animator.isRunning() && !afterAnimations.isEmpty()) {
+            afterAnimations.poll().run();
+        }
+    }
+
+    private void cancelAnimation() {
+        if (animator.isRunning()) {
+            animator.cancel();
+            onAnimationFinished();
+        }
+    }
+
+    // Redraw only if one of the given squares (bit per board square) changed. With hardware
+    // acceleration a view always re-records its whole display list, so there is no partial repaint;
+    // a frame is one cached bitmap plus the pieces
+    private void invalidateSquares(int squares) {
+        if (squares != 0 && squareSize != 0) {
+            invalidate();
+        }
     }
 
     @Override
-    protected void onDraw(@NonNull Canvas canvas) {
-        super.onDraw(canvas);
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        squareSize = Math.min(width, height) / BOARD_SIZE;
+        pieceRadius = squareSize * 0.4f;
+
+        // King crown relative to the piece center
+        crownPath.reset();
+        crownPath.moveTo(-pieceRadius / 2, -pieceRadius / 3);
+        crownPath.lineTo(0, -pieceRadius);
+        crownPath.lineTo(pieceRadius / 2, -pieceRadius / 3);
+        crownPath.close();
+
+        background = null;
+        if (width > 0 && height > 0) {
+            // The board is opaque, so RGB_565 halves the memory of the cached layer
+            background = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
+            drawBackground(new Canvas(background), width, height);
+        }
+        frameStats.reset();
+        cancelAnimation();
+    }
 
-        // Calculate square size
-        int squareSize = Math.min(getWidth(), getHeight()) / BOARD_SIZE;
+    @Override
+    protected void onDetachedFromWindow() {
+        cancelAnimation();
+        super.onDetachedFromWindow();
+    }
 
-        // Draw board squares
+    // Render the static checkerboard and border into the cached layer
+    private void drawBackground(Canvas canvas, int width, int height) {
+        canvas.drawColor(Color.WHITE);
         for (int row = 0; row < BOARD_SIZE; row++) {
             for (int col = 0; col < BOARD_SIZE; col++) {
-                // Determine square color
                 Paint squarePaint = (row + col) % 2 == 0 ? lightSquarePaint : darkSquarePaint;
-
-                // Draw square
-                @SuppressLint("DrawAllocation") RectF square = new RectF(
-                        col * squareSize,
-                        row * squareSize,
-                        (col + 1) * squareSize,
-                        (row + 1) * squareSize
-                );
-                canvas.drawRect(square, squarePaint);
-
-                // Highlight selected piece
-                if (row == selectedRow && col == selectedCol) {
-                    canvas.drawRect(square, selectedPiecePaint);
-                }
-
-                // Draw piece
-                Piece piece = board.getPieceAt(row, col);
-                if (piece != null) {
-                    drawPiece(canvas, piece, row, col, squareSize);
-                }
-
-                // Draw possible moves
-                if (selectedRow == row && selectedCol == col) {
-                    drawPossibleMoves(canvas, row, col, squareSize);
-                }
+                canvas.drawRect(col * squareSize, row * squareSize,
+                        (col + 1) * squareSize, (row + 1) * squareSize, squarePaint);
             }
         }
-
-        // Draw board border
-        canvas.drawRect(0, 0, getWidth(), getHeight(), boardPaint);
+        canvas.drawRect(0, 0, width, height, boardPaint);
     }
 
-    // Draw individual piece
-    private void drawPiece(Canvas canvas, Piece piece, int row, int col, int squareSize) {
-        // Calculate piece position
-        float centerX = col * squareSize + squareSize / 2f;
-        float centerY = row * squareSize + squareSize / 2f;
-        float radius = squareSize * 0.4f;
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        if (background == null || board == null) {
+            return;
+        }
+        boolean timed = frameStats.isEnabled();
+        long frameStart = timed ? System.nanoTime() : 0;
+
+        canvas.drawBitmap(background, 0, 0, null);
 
-        // Set piece color
-        piecePaint.setColor(piece.getColor() == Piece.Color.WHITE ? Color.WHITE : Color.BLACK);
+        // Highlight selected piece
+        if (selectedRow != -1) {
+            canvas.drawRect(selectedCol * squareSize, selectedRow * squareSize,
+                    (selectedCol + 1) * squareSize, (selectedRow + 1) * squareSize, selectedPiecePaint);
+        }
+
+        // Draw pieces straight from the board masks
+        drawnWhite = board.getWhitePieces();
+        drawnBlack = board.getBlackPieces();
+        drawnKings = board.getKings();
+        drawPieces(canvas, drawnWhite & ~hiddenSquares, Color.WHITE);
+        drawPieces(canvas, drawnBlack & ~hiddenSquares, Color.BLACK);
+
+        // Draw possible moves
+        for (int mask = possibleMoveMask; mask != 0; mask &= mask - 1) {
+            int square = Integer.numberOfTrailingZeros(mask);
+            canvas.drawCircle(centerX(square), centerY(square), squareSize / 4f, possibleMovePaint);
+        }
 
-        // Draw piece
-        canvas.drawCircle(centerX, centerY, radius, piecePaint);
+        if (timed) {
+            frameStats.record(frameStart);
+        }
+    }
 
-        // Draw king crown if piece is a king
-        if (piece.isKing()) {
-            drawKingCrown(canvas, centerX, centerY, radius);
+    // Draw every piece of one color
+    private void drawPieces(Canvas canvas, int pieces, int color) {
+        piecePaint.setColor(color);
+        int kings = board.getKings();
+        for (int mask = pieces; mask != 0; mask &= mask - 1) {
+            int square = Integer.numberOfTrailingZeros(mask);
+            float centerX = centerX(square);
+            float centerY = centerY(square);
+            canvas.drawCircle(centerX, centerY, pieceRadius, piecePaint);
+
+            // Draw king crown if piece is a king
+            if ((kings & (1 << square)) != 0) {
+                drawKingCrown(canvas, centerX, centerY);
+            }
         }
     }
 
     // Draw king crown
-    private void drawKingCrown(Canvas canvas, float centerX, float centerY, float radius) {
-        Path crownPath = new Path();
-        crownPath.moveTo(centerX - radius/2, centerY - radius/3);
-        crownPath.lineTo(centerX, centerY - radius);
-        crownPath.lineTo(centerX + radius/2, centerY - radius/3);
+    private void drawKingCrown(Canvas canvas, float centerX, float centerY) {
+        canvas.save();
+        canvas.translate(centerX, centerY);
+        canvas.drawPath(crownPath, crownPaint);
+        canvas.restore();
+    }
 
-        Paint crownPaint = new Paint();
-        crownPaint.setColor(Color.YELLOW);
-        crownPaint.setStyle(Paint.Style.FILL);
+    private float centerX(int square) {
+        return Board.colOf(square) * squareSize + squareSize / 2f;
+    }
 
-        canvas.drawPath(crownPath, crownPaint);
+    private float centerY(int square) {
+        return Board.rowOf(square) * squareSize + squareSize / 2f;
     }
 
-    // Draw possible moves
-    private void drawPossibleMoves(Canvas canvas, int row, int col, int squareSize) {
-        List<int[]> possibleMoves = board.getPossibleMoves(row, col);
-        for (int[] move : possibleMoves) {
-            int targetRow = move[0];
-            int targetCol = move[1];
+    // Select a piece; its targets come from the legal moves the controller computed for this turn
+    private void select(int row, int col) {
+        clearSelection();
+        selectedRow = row;
+        selectedCol = col;
+        possibleMoveMask = gameController.getLegalTargets(row, col);
+        invalidateSelection();
+    }
 
-            float centerX = targetCol * squareSize + squareSize / 2f;
-            float centerY = targetRow * squareSize + squareSize / 2f;
-            canvas.drawCircle(centerX, centerY, squareSize / 4f, possibleMovePaint);
-        }
+    // Whether the piece on (row, col) has a legal move this turn
+    private boolean isMovable(int row, int col) {
+        int square = Board.toSquare(row, col);
+        return square >= 0 && (gameController.getMovableSquares() & (1 << square)) != 0;
     }
 
+    private void clearSelection() {
+        invalidateSelection();
+        selectedRow = -1;
+        selectedCol = -1;
+        possibleMoveMask = 0;
+        chainCount = 0;
+    }
+
+    // Invalidate the selected square and its move hints
+    private void invalidateSelection() {
+        if (selectedRow != -1) {
+            invalidateSquares((1 << Board.toSquare(selectedRow, selectedCol)) | possibleMoveMask);
+        }
+    }
 
     @SuppressLint("ClickableViewAccessibility")
     @Override
     public boolean onTouchEvent(MotionEvent event) {
         if (event.getAction() == MotionEvent.ACTION_DOWN) {
             // Calculate touched square
-            int squareSize = Math.min(getWidth(), getHeight()) / BOARD_SIZE;
+            if (squareSize == 0) {
+                return false;
+            }
             int col = (int) (event.getX() / squareSize);
             int row = (int) (event.getY() / squareSize);
 
@@ -220,23 +375,30 @@ public class BoardView extends View {
 
         // No piece currently selected
         if (selectedRow == -1) {
-            // Select a piece
-            Piece piece = board.getPieceAt(row, col);
-            if (piece != null && piece.getColor() == gameController.getCurrentPlayer().getColor()) {
-                selectedRow = row;
-                selectedCol = col;
-                invalidate();
+            // Select a piece that can move (pieces without legal moves, e.g. under a forced capture, cannot)
+            if (isMovable(row, col)) {
+                select(row, col);
                 return true;
             }
+        } else if (chainCount > 1) {
+            // Several capture chains end on the chosen square: a tapped captured piece narrows them down
+            chooseChain(row, col);
+            return true;
+        } else if (isMovable(row, col) && (possibleMoveMask & (1 << Board.toSquare(row, col))) == 0) {
+            // Tapping another movable piece switches the selection
+            select(row, col);
+            return true;
         } else {
             // Attempt to move the selected piece
             if (moveListener != null) {
-                moveListener.onMove(selectedRow, selectedCol, row, col);
-
-                // Reset selection
-                selectedRow = -1;
-                selectedCol = -1;
-                invalidate();
+                chainCount = gameController.getLegalChains(selectedRow, selectedCol, row, col, chainMasks);
+                chainRow = row;
+                chainCol = col;
+                if (distinguishingSquares() != 0) {
+                    showChainChoice();
+                } else {
+                    playChain();
+                }
                 return true;
             }
         }
@@ -244,6 +406,56 @@ public class BoardView extends View {
         return false;
     }
 
+    // Keep the chains that capture the tapped piece; any other tap cancels the move
+    private void chooseChain(int row, int col) {
+        int square = Board.toSquare(row, col);
+        if (square < 0 || (possibleMoveMask & (1 << square)) == 0) {
+            clearSelection();
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < chainCount; i++) {
+            if ((chainMasks[i] & (1 << square)) != 0) {
+                chainMasks[kept++] = chainMasks[i];
+            }
+        }
+        chainCount = kept;
+        if (distinguishingSquares() != 0) {
+            showChainChoice();
+        } else {
+            playChain();
+        }
+    }
+
+    // Captured pieces that some, but not all, of the remaining chains take
+    private int distinguishingSquares() {
+        if (chainCount < 2) {
+            return 0;
+        }
+        int any = 0;
+        int all = -1;
+        for (int i = 0; i < chainCount; i++) {
+            any |= chainMasks[i];
+            all &= chainMasks[i];
+        }
+        return any & ~all;
+    }
+
+    private void showChainChoice() {
+        invalidateSelection();
+        possibleMoveMask = distinguishingSquares();
+        invalidateSelection();
+    }
+
+    // Report the move with the chosen chain (or without one for a plain or unknown move)
+    private void playChain() {
+        int captured = chainCount > 0 ? chainMasks[0] : MoveValidator.ANY_CAPTURED;
+        moveListener.onMove(selectedRow, selectedCol, chainRow, chainCol, captured);
+
+        // Reset selection (the move itself arrives as a MoveEvent)
+        clearSelection();
+    }
+
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         // Make the view square
@@ -0,0 +1,102 @@
+package com.example.checkers.view;
+
+import android.util.Log;
+
+import java.util.Arrays;
+
+/**
+ * Rolling frame-time statistics for a view's draw pass or for frame intervals.
+ * <p>
+ * Samples go into a preallocated ring buffer, so recording never allocates. Every
+ * {@code window} frames the average, 95th percentile, worst time and the number of frames over
+ * the 60 fps budget are logged at DEBUG level; enable it with {@code adb shell setprop log.tag.<tag> DEBUG}.
+ */
+public class FrameStats {
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    /** Frame budget at 60 fps. */
+    public static final long FRAME_BUDGET_NANOS = 16_666_667L;
+
+    private final String tag;
+    private final long[] samples;
+    private final long[] sorted;
+    private int count;
+    private int next;
+    private int sinceReport;
+
+    public FrameStats(String tag, int window) {
+        this.tag = tag;
+        this.samples = new long[window];
+        this.sorted = new long[window];
+    }
+
+    /** Whether frames should be timed at all (checked once per frame). */
+    public boolean isEnabled() {
+        return Log.isLoggable(tag, Log.DEBUG);
+    }
+
+    /** Records one frame that started at {@code startNanos} (from {@link System#nanoTime()}). */
+    public void record(long startNanos) {
+        add(System.nanoTime() - startNanos);
+    }
+
+    /** Records one sample of {@code nanos}, e.g. the interval between two Choreographer frames. */
+    public void add(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceReport == samples.length) {
+            sinceReport = 0;
+            report();
+        }
+    }
+
+    /** Average frame time over the window, in nanoseconds. */
+    public long getAverageNanos() {
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return total / count;
+    }
+
+    /** Frame time at the given percentile (0-100) over the window, in nanoseconds. */
+    public long getPercentileNanos(int percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        return sorted[Math.min(count - 1, count * percentile / 100)];
+    }
+
+    /** Number of samples in the window over the 60 fps frame budget. */
+    public int getSlowFrames() {
+        int slow = 0;
+        for (int i = 0; i < count; i++) {
+            if (samples[i] > FRAME_BUDGET_NANOS) {
+                slow++;
+            }
+        }
+        return slow;
+    }
+
+    /** Forgets all samples, e.g. after the view is resized. */
+    public void reset() {
+        count = 0;
+        next = 0;
+        sinceReport = 0;
+    }
+
+    private void report() {
+        Log.d(tag, "frame avg " + getAverageNanos() / NANOS_PER_MICRO + " us, p95 "
+                + getPercentileNanos(95) / NANOS_PER_MICRO + " us, max "
+                + getPercentileNanos(100) / NANOS_PER_MICRO + " us, " + getSlowFrames()
+                + " over budget of " + count + " frames");
+    }
+}
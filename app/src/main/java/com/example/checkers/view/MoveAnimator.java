@@ -0,0 +1,198 @@
+package com.example.checkers.view;
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewGroupOverlay;
+
+import com.example.checkers.controller.MoveEvent;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animates moves on a {@link BoardView} with {@link PieceView} overlays.
+ * <p>
+ * The moving piece slides along its jump path one landing at a time, and each captured piece fades
+ * out while it is being jumped. Only translation and alpha are animated, on hardware layers, so
+ * frames are composed on the RenderThread without redrawing the board. Frame intervals are
+ * collected through {@link Choreographer} while an animation runs (see {@link FrameStats}).
+ */
+public class MoveAnimator {
+    private static final String TAG = "MoveAnimator";
+
+    // Duration of one slide or jump
+    private static final long STEP_MILLIS = 180;
+
+    // Frames per logged frame-interval report
+    private static final int FRAME_STATS_WINDOW = 120;
+
+    private final BoardView boardView;
+    private final PieceView mover;
+
+    // Captured-piece overlays, reused between animations
+    private final List<PieceView> fading = new ArrayList<>();
+    private int fadingCount;
+
+    // Current animation
+    private ViewGroupOverlay overlay;
+    private int[] path;
+    private int step;
+    private int squareSize;
+    private Runnable onFinished;
+    private boolean running;
+
+    private final FrameStats frameStats = new FrameStats(TAG, FRAME_STATS_WINDOW);
+    private long lastFrameNanos;
+    private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (lastFrameNanos != 0) {
+                frameStats.add(frameTimeNanos - lastFrameNanos);
+            }
+            lastFrameNanos = frameTimeNanos;
+            if (running) {
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+        }
+    };
+
+    public MoveAnimator(BoardView boardView) {
+        this.boardView = boardView;
+        this.mover = new PieceView(boardView.getContext());
+    }
+
+    /** Whether an animation is in progress. */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts animating a move that has already been made on the board.
+     *
+     * @param event      the move, with its path and captured squares
+     * @param squareSize size of one board square in pixels
+     * @param onFinished called on the main thread when the animation ends (not when it is cancelled)
+     * @return false if the board is not attached to a parent and nothing was animated
+     */
+    public boolean animate(MoveEvent event, int squareSize, Runnable onFinished) {
+        cancel();
+        if (!(boardView.getParent() instanceof ViewGroup) || squareSize == 0) {
+            return false;
+        }
+        this.overlay = ((ViewGroup) boardView.getParent()).getOverlay();
+        this.path = event.getPath();
+        this.step = 0;
+        this.squareSize = squareSize;
+        this.onFinished = onFinished;
+        this.running = true;
+
+        mover.setPiece(newPiece(event.getColor(), event.wasKing()));
+        place(mover, path[0]);
+
+        // Captured pieces fade while the mover jumps over them, one jump after another
+        fadingCount = 0;
+        for (int i = 1; i < path.length; i++) {
+            int captured = jumpedSquare(path[i - 1], path[i]);
+            if (captured < 0) {
+                continue;
+            }
+            PieceView view = obtainFadingView();
+            view.setPiece(newPiece(event.getColor() == Piece.Color.WHITE ? Piece.Color.BLACK : Piece.Color.WHITE,
+                    (event.getCapturedKings() & (1 << captured)) != 0));
+            place(view, captured);
+            view.animate().alpha(0f).setStartDelay((i - 1) * STEP_MILLIS).setDuration(STEP_MILLIS).withLayer();
+        }
+
+        if (frameStats.isEnabled()) {
+            lastFrameNanos = 0;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+        nextStep();
+        return true;
+    }
+
+    /** Stops the current animation and removes its overlays without calling the finish callback. */
+    public void cancel() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        mover.animate().cancel();
+        for (int i = 0; i < fadingCount; i++) {
+            fading.get(i).animate().cancel();
+        }
+        removeOverlays();
+    }
+
+    // Slide to the next landing square, or finish after the last one
+    private void nextStep() {
+        if (!running) {
+            return;
+        }
+        if (step == path.length - 1) {
+            running = false;
+            removeOverlays();
+            onFinished.run();
+            return;
+        }
+        step++;
+        int from = path[0];
+        int to = path[step];
+        mover.animate()
+                .translationX((Board.colOf(to) - Board.colOf(from)) * squareSize)
+                .translationY((Board.rowOf(to) - Board.rowOf(from)) * squareSize)
+                .setStartDelay(0)
+                .setDuration(STEP_MILLIS)
+                .withLayer()
+                .withEndAction(this::nextStep);
+    }
+
+    // Add an overlay view sized to one square over the given board square
+    private void place(PieceView view, int square) {
+        int left = boardView.getLeft() + Board.colOf(square) * squareSize;
+        int top = boardView.getTop() + Board.rowOf(square) * squareSize;
+        view.setTranslationX(0);
+        view.setTranslationY(0);
+        view.setAlpha(1f);
+        int spec = View.MeasureSpec.makeMeasureSpec(squareSize, View.MeasureSpec.EXACTLY);
+        view.measure(spec, spec);
+        view.layout(left, top, left + squareSize, top + squareSize);
+        overlay.add(view);
+    }
+
+    private void removeOverlays() {
+        overlay.remove(mover);
+        for (int i = 0; i < fadingCount; i++) {
+            overlay.remove(fading.get(i));
+        }
+        fadingCount = 0;
+    }
+
+    private PieceView obtainFadingView() {
+        if (fadingCount == fading.size()) {
+            fading.add(new PieceView(boardView.getContext()));
+        }
+        return fading.get(fadingCount++);
+    }
+
+    private static Piece newPiece(Piece.Color color, boolean king) {
+        Piece piece = new Piece(color);
+        if (king) {
+            piece.kingMe();
+        }
+        return piece;
+    }
+
+    // Square jumped over between two landings, or -1 for a plain slide
+    private static int jumpedSquare(int from, int to) {
+        int fromRow = Board.rowOf(from);
+        int toRow = Board.rowOf(to);
+        if (Math.abs(toRow - fromRow) != 2) {
+            return -1;
+        }
+        return Board.toSquare((fromRow + toRow) / 2, (Board.colOf(from) + Board.colOf(to)) / 2);
+    }
+}
@@ -1,23 +1,23 @@
 package com.example.checkers.view;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
 import android.view.View;
 
 import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
 
 import com.example.checkers.R;
 import com.example.checkers.model.Piece;
 
 /**
  * Custom View for rendering a checkers piece with advanced rendering capabilities.
+ * Used by {@link MoveAnimator} as an overlay that slides and fades on a hardware layer.
  */
 public class PieceView extends View {
     // Paint objects for drawing
@@ -27,8 +27,11 @@ public class PieceView extends View {
     // Piece representation
     private Piece piece;
 
+    // Crown drawn on kings (a vector drawable, loaded once)
+    private Drawable crownDrawable;
+
     // Drawing parameters
-    private RectF pieceRect;
+    private final RectF pieceRect = new RectF();
     private boolean isSelected;
     private boolean isHighlighted;
 
@@ -68,6 +71,8 @@ public class PieceView extends View {
         Paint kingMarkPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         kingMarkPaint.setStyle(Paint.Style.FILL);
         kingMarkPaint.setColor(Color.rgb(255, 215, 0));
+
+        crownDrawable = ContextCompat.getDrawable(getContext(), R.drawable.king_crown);
     }
 
     /**
@@ -112,7 +117,15 @@ public class PieceView extends View {
         super.onSizeChanged(w, h, oldw, oldh);
         // Create a rectangular bound for the piece
         float padding = Math.min(w, h) * 0.1f; // 10% padding
-        pieceRect = new RectF(padding, padding, w - padding, h - padding);
+        pieceRect.set(padding, padding, w - padding, h - padding);
+
+        // Crown bounds: half the piece size, centered
+        if (crownDrawable != null) {
+            float crownSize = Math.min(pieceRect.width(), pieceRect.height()) / 2;
+            int left = Math.round(pieceRect.centerX() - crownSize / 2);
+            int top = Math.round(pieceRect.centerY() - crownSize / 2);
+            crownDrawable.setBounds(left, top, Math.round(left + crownSize), Math.round(top + crownSize));
+        }
     }
 
     @Override
@@ -138,16 +151,9 @@ public class PieceView extends View {
         }
 
         // Draw king marker if piece is a king
-        if (piece.isKing()) {
-            // Draw a crown image if piece is a king
-            @SuppressLint("DrawAllocation") Bitmap crownBitmap = BitmapFactory.decodeResource(getResources(), R.drawable.king_crown);
-            float centerX = pieceRect.centerX();
-            float centerY = pieceRect.centerY();
-            float radius = Math.min(pieceRect.width(), pieceRect.height()) / 4;
-            float crownWidth = radius * 2; // Adjust size of the crown
-            float crownHeight = crownWidth; // You can change this depending on the aspect ratio of your crown image
-            @SuppressLint("DrawAllocation") RectF crownRect = new RectF(centerX - crownWidth / 2, centerY - crownHeight / 2, centerX + crownWidth / 2, centerY + crownHeight / 2);
-            canvas.drawBitmap(crownBitmap, null, crownRect, null); // Draw the crown bitmap
+        if (piece.isKing() && crownDrawable != null) {
+            // Draw the crown image if piece is a king
+            crownDrawable.draw(canvas);
         }
     }
 
@@ -0,0 +1,30 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":checkers-engine"))
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+// Запуск: ./gradlew :benchmarks:jmh (результати - build/results/jmh/results.json)
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("s")
+    // Профайлер gc показує швидкість алокацій (gc.alloc.rate.norm - байти на операцію)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,47 @@
+package com.example.checkers.benchmarks;
+
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.model.Board;
+import com.example.checkers.utils.BoardNotation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Час до глибини для Lazy SMP: прискорення - відношення часу з одним потоком до часу з кількома
+@State(Scope.Thread)
+public class LazySmpBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    // Глибина пошуку без ліміту часу
+    @Param({"13"})
+    public int depth;
+
+    private Board board;
+    private SearchStrategy search;
+
+    @Setup
+    public void setUp() {
+        board = BoardNotation.fromFen(ReferencePositions.OPENING);
+        search = new SearchStrategy(depth, Long.MAX_VALUE,
+                new TranspositionTable(SearchStrategy.DEFAULT_TT_SIZE_MB), threads);
+    }
+
+    // Таблиця транспозицій очищується, щоб попередній пошук не давав переваги
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AIStrategy.Move timeToDepth() {
+        search.getTranspositionTable().clear();
+        return search.chooseMove(board, board.getSideToMove());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.checkers.benchmarks;
+
+import com.example.checkers.ai.BasicStrategy;
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Player;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.GameRules;
+import com.example.checkers.utils.MoveGenerator;
+import com.example.checkers.utils.MoveValidator;
+import com.example.checkers.utils.Perft;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Генерація і перевірка ходів на еталонних позиціях
+@State(Scope.Thread)
+public class MoveGenerationBenchmark {
+    // Глибина perft: листи за секунду = ops/s, помножені на кількість листів позиції
+    private static final int PERFT_DEPTH = 5;
+
+    @Param({
+            ReferencePositions.OPENING,
+            ReferencePositions.MIDDLEGAME,
+            ReferencePositions.MULTI_JUMP,
+            ReferencePositions.KINGS_ENDGAME
+    })
+    public String fen;
+
+    private Board board;
+    private Player player;
+    private final MoveList moves = new MoveList();
+
+    // Координати першого легального ходу позиції
+    private int fromRow;
+    private int fromCol;
+    private int toRow;
+    private int toCol;
+
+    @Setup
+    public void setUp() {
+        board = BoardNotation.fromFen(fen);
+        Piece.Color side = board.getSideToMove();
+        player = new ComputerPlayer("benchmark", side, new BasicStrategy());
+
+        MoveGenerator.generateMoves(board, side, moves);
+        int move = moves.getMove(0);
+        fromRow = Board.rowOf(MoveList.from(move));
+        fromCol = Board.colOf(MoveList.from(move));
+        toRow = Board.rowOf(MoveList.to(move));
+        toCol = Board.colOf(MoveList.to(move));
+    }
+
+    @Benchmark
+    public void generateMoves(Blackhole blackhole) {
+        MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+        blackhole.consume(moves.size());
+    }
+
+    @Benchmark
+    public long perft() {
+        return Perft.perft(board, PERFT_DEPTH);
+    }
+
+    @Benchmark
+    public Object possibleMovesForPiece() {
+        return board.getPossibleMoves(fromRow, fromCol);
+    }
+
+    @Benchmark
+    public boolean isValidMove() {
+        return MoveValidator.isValidMove(board, player, fromRow, fromCol, toRow, toCol);
+    }
+
+    @Benchmark
+    public boolean isDrawCondition() {
+        return GameRules.isDrawCondition(board);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.checkers.benchmarks;
+
+import com.example.checkers.utils.BoardNotation;
+
+// Еталонні позиції для бенчмарків (FEN у нумерації PDN)
+public class ReferencePositions {
+    // Початкова позиція
+    public static final String OPENING = BoardNotation.INITIAL_FEN;
+
+    // Щільна середина гри з обов'язковими взяттями
+    public static final String MIDDLEGAME = "W:W14,15,16,18,19,22,23,24,26,27,31:B3,4,5,7,8,9,10,11,12,13,20";
+
+    // Ланцюжки взяття з перетворенням на дамку
+    public static final String MULTI_JUMP = "B:W6,7,14,15,23,24:B1,K3";
+
+    // Ендшпіль з дамками
+    public static final String KINGS_ENDGAME = "B:W18,19,26,27,K10:B2,3,K30,12";
+}
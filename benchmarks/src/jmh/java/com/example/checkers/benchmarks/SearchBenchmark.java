@@ -0,0 +1,69 @@
+package com.example.checkers.benchmarks;
+
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.EvalWeights;
+import com.example.checkers.ai.Evaluator;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.model.Board;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.Perft;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Оцінка позиції, perft і пошук фіксованої глибини на еталонних позиціях
+@State(Scope.Thread)
+public class SearchBenchmark {
+    @Param({
+            ReferencePositions.OPENING,
+            ReferencePositions.MIDDLEGAME,
+            ReferencePositions.KINGS_ENDGAME
+    })
+    public String fen;
+
+    // Глибина пошуку без ліміту часу
+    @Param({"8"})
+    public int depth;
+
+    private Board board;
+    private Evaluator evaluator;
+    private SearchStrategy search;
+
+    @Setup
+    public void setUp() {
+        board = BoardNotation.fromFen(fen);
+        evaluator = new Evaluator(EvalWeights.defaults());
+        evaluator.attach(board);
+        search = new SearchStrategy(depth, Long.MAX_VALUE,
+                new TranspositionTable(SearchStrategy.DEFAULT_TT_SIZE_MB), 1);
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return evaluator.evaluate(board, board.getSideToMove());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long perft5() {
+        return Perft.perft(board, 5);
+    }
+
+    // Таблиця транспозицій очищується, щоб кожен пошук стартував з нуля; дошка після пошуку не змінюється
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AIStrategy.Move fixedDepthSearch() {
+        search.getTranspositionTable().clear();
+        return search.chooseMove(board, board.getSideToMove());
+    }
+}
@@ -0,0 +1,45 @@
+plugins {
+    `java-library`
+}
+
+// Рушій гри без Android-залежностей: дошка, правила, генерація ходів і пошук
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    // JUnit 5 (Jupiter) залежності для юніт-тестів
+    testImplementation(libs.junit.jupiter.api)
+    testRuntimeOnly(libs.jupiter.junit.jupiter.engine)
+    testRuntimeOnly(libs.junit.platform.launcher)
+    testImplementation(libs.mockito.core)
+    testImplementation(libs.mockito.mockito.junit.jupiter)
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+// Офлайн-генерація бази ендшпілю в assets застосунку: ./gradlew :checkers-engine:generateTablebase
+tasks.register<JavaExec>("generateTablebase") {
+    group = "build"
+    description = "Generates the endgame tablebase into app/src/main/assets"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.checkers.ai.TablebaseGenerator")
+    args(rootProject.file("app/src/main/assets/endgame.cktb").path, "4")
+    maxHeapSize = "2g"
+}
+
+// Книга дебютів із самогри (або з PDN: --args="<файл> партії.pdn"): ./gradlew :checkers-engine:generateOpeningBook
+tasks.register<JavaExec>("generateOpeningBook") {
+    group = "build"
+    description = "Generates the opening book into app/src/main/assets"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.checkers.ai.OpeningBookGenerator")
+    args(rootProject.file("app/src/main/assets/opening.ckob").path)
+}
@@ -0,0 +1,62 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveValidator;
+
+public interface AIStrategy {
+    // Метод для вибору найкращого ходу
+    Move chooseMove(Board board, Piece.Color aiColor);
+
+    // Вибір ходу для пошуку, поставленого в чергу з токеном stopToken(): stop(), викликаний після
+    // отримання токена, зупиняє цей пошук, навіть якщо він ще не почався
+    default Move chooseMove(Board board, Piece.Color aiColor, long stopToken) {
+        return chooseMove(board, aiColor);
+    }
+
+    // Перервати пошук, що виконується в іншому потоці
+    default void stop() {
+    }
+
+    // Токен для пошуку, який ставиться в чергу зараз (стратегії без зупинки його ігнорують)
+    default long stopToken() {
+        return 0;
+    }
+
+    // Слухач прогресу пошуку (стратегії без ітерацій його ігнорують)
+    default void setSearchListener(SearchListener listener) {
+    }
+
+    // Пондеринг: пошук на час суперника зі збільшеним лімітом часу; false - звичайний ліміт (стратегії без ліміту ігнорують)
+    default void setPondering(boolean pondering) {
+    }
+
+    // Внутрішній клас для представлення ходу
+    class Move {
+        public int fromRow;
+        public int fromCol;
+        public int toRow;
+        public int toCol;
+        // Маска взятих шашок: визначає ланцюжок, якщо кілька ведуть з тієї ж клітинки в ту саму
+        public int captured;
+
+        public Move(int fromRow, int fromCol, int toRow, int toCol) {
+            this(fromRow, fromCol, toRow, toCol, MoveValidator.ANY_CAPTURED);
+        }
+
+        public Move(int fromRow, int fromCol, int toRow, int toCol, int captured) {
+            this.fromRow = fromRow;
+            this.fromCol = fromCol;
+            this.toRow = toRow;
+            this.toCol = toCol;
+            this.captured = captured;
+        }
+    }
+
+    // Рівні складності ШІ
+    enum Difficulty {
+        EASY,   // Випадкові ходи
+        MEDIUM, // Прості тактичні рішення
+        HARD    // Глибокий аналіз та прогнозування
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+import java.util.Random;
+
+public class BasicStrategy implements AIStrategy {
+    private final Random random = new Random();
+
+    // Багаторазовий буфер ходів, щоб не створювати сміття на кожен виклик
+    private final MoveList possibleMoves = new MoveList();
+
+    @Override
+    public Move chooseMove(Board board, Piece.Color aiColor) {
+        MoveGenerator.generateMoves(board, aiColor, possibleMoves);
+
+        if (possibleMoves.isEmpty()) {
+            return null;
+        }
+
+        // Випадковий вибір ходу
+        int index = random.nextInt(possibleMoves.size());
+        int move = possibleMoves.getMove(index);
+        int from = MoveList.from(move);
+        int to = MoveList.to(move);
+        return new Move(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to),
+                possibleMoves.getCaptured(index));
+    }
+}
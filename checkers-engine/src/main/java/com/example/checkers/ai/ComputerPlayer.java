@@ -0,0 +1,78 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Player;
+import com.example.checkers.utils.MoveValidator;
+
+public class ComputerPlayer extends Player {
+    private final AIStrategy strategy; // Стратегія вибору ходу (BasicStrategy, SearchStrategy, ...)
+
+    // Буфер легальних ходів для розбору вибраного ходу
+    private final MoveList legalMoves = new MoveList();
+
+    // Книга дебютів (може бути відсутня): ходи з неї повертаються без пошуку
+    private volatile OpeningBook openingBook;
+
+    // Конструктор
+    public ComputerPlayer(String name, Piece.Color color, AIStrategy strategy) {
+        super(name, color);
+        this.strategy = strategy;
+    }
+
+    // Getter для стратегії
+    public AIStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public boolean makeMove(Board board, int fromRow, int fromCol, int toRow, int toCol) {
+        // Вибираємо хід за допомогою стратегії
+        AIStrategy.Move bestMove = chooseMove(board);
+
+        return applyMove(board, bestMove);
+    }
+
+    // Setter для книги дебютів
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    // Вибрати хід (можна викликати у фоновому потоці на копії дошки)
+    public AIStrategy.Move chooseMove(Board board) {
+        AIStrategy.Move bookMove = bookMove(board);
+        return bookMove != null ? bookMove : strategy.chooseMove(board, getColor());
+    }
+
+    // Вибрати хід для пошуку, поставленого в чергу з токеном стратегії (див. AIStrategy.stopToken)
+    public AIStrategy.Move chooseMove(Board board, long stopToken) {
+        AIStrategy.Move bookMove = bookMove(board);
+        return bookMove != null ? bookMove : strategy.chooseMove(board, getColor(), stopToken);
+    }
+
+    // Хід з книги дебютів або null
+    private AIStrategy.Move bookMove(Board board) {
+        OpeningBook book = openingBook;
+        return book != null ? book.chooseMove(board, getColor()) : null;
+    }
+
+    // Виконати вибраний хід на дошці
+    public boolean applyMove(Board board, AIStrategy.Move bestMove) {
+        if (bestMove == null) {
+            return false;
+        }
+
+        // Перевірка валідності ходу (включно з ланцюжками взяття)
+        int index = MoveValidator.findLegalMove(board, getColor(),
+                bestMove.fromRow, bestMove.fromCol,
+                bestMove.toRow, bestMove.toCol, bestMove.captured, legalMoves);
+        if (index < 0) {
+            return false;
+        }
+
+        // Переміщення, взяття ланцюжка і перетворення на дамку - одним makeMove
+        playLegalMove(board, legalMoves, index);
+        return true;
+    }
+}
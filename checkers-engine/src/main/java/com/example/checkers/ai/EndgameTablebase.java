@@ -0,0 +1,126 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// Ендшпільна база, відображена в пам'ять через MappedByteBuffer: дані не займають heap
+// і не читаються при старті - сторінки підтягує ОС під час звернень.
+// Значення позиції (з точки зору сторони, що ходить) - один байт:
+// 0 - нічия, n > 0 - виграш за n напівходів, n < 0 - програш за -n-1 напівходів.
+public class EndgameTablebase {
+    // Формат файлу: "CKTB", версія, кількість шашок, кількість сигнатур, каталог (сигнатура, зсув, розмір)
+    static final int MAGIC = 0x434B5442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int DIRECTORY_ENTRY_BYTES = 16;
+
+    // Найбільша підтримувана кількість шашок
+    public static final int MAX_PIECES = 6;
+
+    // Результат для позиції, якої немає в базі
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    // Найбільші відстані, що вміщуються в байт (довші насичуються)
+    private static final int MAX_WIN_DISTANCE = Byte.MAX_VALUE;
+    private static final int MAX_LOSS_DISTANCE = -(Byte.MIN_VALUE + 2);
+
+    // Окреме відображення на кожну сигнатуру (кожне менше 2 ГБ)
+    private final MappedByteBuffer[] tables = new MappedByteBuffer[TablebaseIndex.SIGNATURES];
+    private final int maxPieces;
+
+    private EndgameTablebase(int maxPieces) {
+        this.maxPieces = maxPieces;
+    }
+
+    // Відкрити файл бази
+    public static EndgameTablebase open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Невідомий формат ендшпільної бази: " + file);
+            }
+            int maxPieces = header.getInt();
+            int count = header.getInt();
+            if (maxPieces < 2 || maxPieces > MAX_PIECES || count < 0 || count > TablebaseIndex.SIGNATURES) {
+                throw new IOException("Пошкоджений заголовок ендшпільної бази: " + file);
+            }
+
+            EndgameTablebase tablebase = new EndgameTablebase(maxPieces);
+            ByteBuffer directory = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES,
+                    (long) count * DIRECTORY_ENTRY_BYTES);
+            for (int i = 0; i < count; i++) {
+                int signature = directory.getInt();
+                long offset = directory.getLong();
+                int size = directory.getInt();
+                if (signature < 0 || signature >= TablebaseIndex.SIGNATURES
+                        || size != TablebaseIndex.size(signature) || offset + size > channel.size()) {
+                    throw new IOException("Пошкоджений каталог ендшпільної бази: " + file);
+                }
+                // Відображення лишається дійсним після закриття каналу
+                tablebase.tables[signature] = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            }
+            return tablebase;
+        }
+    }
+
+    // Значення позиції для сторони, що ходить, або NOT_FOUND
+    public int probe(Board board) {
+        int white = board.getWhitePieces();
+        int black = board.getBlackPieces();
+        if (Integer.bitCount(white | black) > maxPieces || white == 0 || black == 0) {
+            return NOT_FOUND;
+        }
+
+        int kings = board.getKings();
+        if (board.getSideToMove() == Piece.Color.BLACK) {
+            int rotatedWhite = TablebaseIndex.rotate(black);
+            black = TablebaseIndex.rotate(white);
+            white = rotatedWhite;
+            kings = TablebaseIndex.rotate(kings);
+        }
+
+        MappedByteBuffer table = tables[TablebaseIndex.signatureOf(white, black, kings)];
+        if (table == null) {
+            return NOT_FOUND;
+        }
+        return table.get((int) TablebaseIndex.index(white, black, kings));
+    }
+
+    // Найбільша кількість шашок у базі
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    // Чи виграє сторона, що ходить
+    public static boolean isWin(int value) {
+        return value > 0 && value != NOT_FOUND;
+    }
+
+    // Чи програє сторона, що ходить
+    public static boolean isLoss(int value) {
+        return value < 0 && value != NOT_FOUND;
+    }
+
+    // Кількість напівходів до кінця партії при найкращій грі (0 для нічиєї)
+    public static int distance(int value) {
+        return value > 0 ? value : value < 0 ? -value - 1 : 0;
+    }
+
+    // Закодувати виграш за distance напівходів
+    static byte winValue(int distance) {
+        return (byte) Math.min(distance, MAX_WIN_DISTANCE);
+    }
+
+    // Закодувати програш за distance напівходів
+    static byte lossValue(int distance) {
+        return (byte) -(Math.min(distance, MAX_LOSS_DISTANCE) + 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.checkers.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+// Ваги оцінювальної функції; читаються з eval_weights.properties, щоб налаштовувати силу без перекомпіляції
+public class EvalWeights {
+    // Ресурс з вагами за замовчуванням
+    public static final String RESOURCE = "/eval_weights.properties";
+
+    private final int manValue;
+    private final int kingValue;
+    private final int advancement;
+    private final int backRankGuard;
+    private final int centreMan;
+    private final int centreKing;
+    private final int mobility;
+
+    public EvalWeights(int manValue, int kingValue, int advancement, int backRankGuard,
+                       int centreMan, int centreKing, int mobility) {
+        this.manValue = manValue;
+        this.kingValue = kingValue;
+        this.advancement = advancement;
+        this.backRankGuard = backRankGuard;
+        this.centreMan = centreMan;
+        this.centreKing = centreKing;
+        this.mobility = mobility;
+    }
+
+    // Ваги, вбудовані в код (використовуються, якщо файл недоступний)
+    public static EvalWeights defaults() {
+        return new EvalWeights(100, 150, 3, 8, 4, 6, 2);
+    }
+
+    // Ваги з ресурсу за замовчуванням; при помилці - вбудовані значення
+    public static EvalWeights load() {
+        try (InputStream in = EvalWeights.class.getResourceAsStream(RESOURCE)) {
+            return in != null ? load(in) : defaults();
+        } catch (IOException | IllegalArgumentException e) {
+            return defaults();
+        }
+    }
+
+    // Ваги з потоку у форматі Properties; відсутні ключі беруться зі значень за замовчуванням
+    public static EvalWeights load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+
+        EvalWeights base = defaults();
+        return new EvalWeights(
+                read(properties, "man.value", base.manValue),
+                read(properties, "king.value", base.kingValue),
+                read(properties, "advancement", base.advancement),
+                read(properties, "back.rank.guard", base.backRankGuard),
+                read(properties, "centre.man", base.centreMan),
+                read(properties, "centre.king", base.centreKing),
+                read(properties, "mobility", base.mobility));
+    }
+
+    // Прочитати ціле значення ключа
+    private static int read(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некоректна вага " + key + ": " + value, e);
+        }
+    }
+
+    // Getters
+    public int getManValue() {
+        return manValue;
+    }
+
+    public int getKingValue() {
+        return kingValue;
+    }
+
+    public int getAdvancement() {
+        return advancement;
+    }
+
+    public int getBackRankGuard() {
+        return backRankGuard;
+    }
+
+    public int getCentreMan() {
+        return centreMan;
+    }
+
+    public int getCentreKing() {
+        return centreKing;
+    }
+
+    public int getMobility() {
+        return mobility;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Zobrist;
+import com.example.checkers.utils.MoveGenerator;
+
+// Статична оцінка позиції. Матеріал, просування, захист останнього рядка і центр
+// зведені в таблицю "шашка на клітинці", яку Board підсумовує інкрементально в makeMove/unmakeMove;
+// на листі дерева лишається тільки мобільність, що рахується масками.
+public class Evaluator {
+    // Центральні клітинки: рядки 3-4, стовпці 2-5
+    private static final int CENTRE = 0x00066000;
+
+    // Останні рядки: білі захищають рядок 0, чорні - рядок 7
+    private static final int WHITE_BACK_ROW = 0x0000000F;
+    private static final int BLACK_BACK_ROW = 0xF0000000;
+
+    private final EvalWeights weights;
+    private final int[] pieceSquareTable;
+
+    public Evaluator(EvalWeights weights) {
+        this.weights = weights;
+        this.pieceSquareTable = buildPieceSquareTable(weights);
+    }
+
+    // Таблиця з точки зору білих: значення чорних шашок від'ємні
+    private static int[] buildPieceSquareTable(EvalWeights weights) {
+        int[] table = new int[4 * Board.SQUARES];
+        for (int square = 0; square < Board.SQUARES; square++) {
+            int bit = 1 << square;
+            int row = Board.rowOf(square);
+            int centreMan = (CENTRE & bit) != 0 ? weights.getCentreMan() : 0;
+            int centreKing = (CENTRE & bit) != 0 ? weights.getCentreKing() : 0;
+
+            // Білі йдуть донизу (до рядка 7), чорні - догори (до рядка 0)
+            table[(Zobrist.WHITE_MAN << 5) | square] = weights.getManValue() + centreMan
+                    + weights.getAdvancement() * row
+                    + ((WHITE_BACK_ROW & bit) != 0 ? weights.getBackRankGuard() : 0);
+            table[(Zobrist.BLACK_MAN << 5) | square] = -(weights.getManValue() + centreMan
+                    + weights.getAdvancement() * (7 - row)
+                    + ((BLACK_BACK_ROW & bit) != 0 ? weights.getBackRankGuard() : 0));
+            table[(Zobrist.WHITE_KING << 5) | square] = weights.getKingValue() + centreKing;
+            table[(Zobrist.BLACK_KING << 5) | square] = -(weights.getKingValue() + centreKing);
+        }
+        return table;
+    }
+
+    // Підключити таблицю оцінки до дошки (один перерахунок за O(32), далі - інкрементально)
+    public void attach(Board board) {
+        board.setPieceSquareTable(pieceSquareTable);
+    }
+
+    // Оцінка з точки зору кольору color; дошка має бути підключена через attach()
+    public int evaluate(Board board, Piece.Color color) {
+        int score = board.getPositionalScore() + weights.getMobility()
+                * (MoveGenerator.countQuietMoves(board, Piece.Color.WHITE)
+                - MoveGenerator.countQuietMoves(board, Piece.Color.BLACK));
+        return color == Piece.Color.WHITE ? score : -score;
+    }
+
+    // Ваги оцінювача
+    public EvalWeights getWeights() {
+        return weights;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Zobrist;
+import com.example.checkers.utils.MoveGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+// Книга дебютів: відсортовані за ключем Zobrist записи (ключ, хід, вага).
+// Пошук - двійковий по буферу без розбору файлу в об'єкти; хід обирається випадково пропорційно вазі.
+public class OpeningBook {
+    // Формат файлу: "CKOB", версія, кількість записів, записи (long ключ, short хід, short вага)
+    static final int MAGIC = 0x434B4F42;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+    static final int RECORD_BYTES = 12;
+
+    // Найбільша вага запису (беззнаковий short)
+    static final int MAX_WEIGHT = 0xFFFF;
+
+    private final ByteBuffer records;
+    private final int count;
+    private final Random random = new Random();
+
+    // Буфер легальних ходів для перевірки записів (колізії ключів)
+    private final MoveList legalMoves = new MoveList();
+
+    private OpeningBook(ByteBuffer records, int count) {
+        this.records = records;
+        this.count = count;
+    }
+
+    // Відкрити файл книги (відображення в пам'ять)
+    public static OpeningBook open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file.getPath());
+        }
+    }
+
+    // Прочитати книгу з потоку (asset) у direct-буфер
+    public static OpeningBook load(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[16 * 1024];
+        int read;
+        while ((read = in.read(chunk)) > 0) {
+            out.write(chunk, 0, read);
+        }
+        byte[] bytes = out.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return wrap(buffer, "stream");
+    }
+
+    private static OpeningBook wrap(ByteBuffer buffer, String source) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Невідомий формат книги дебютів: " + source);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * RECORD_BYTES != buffer.remaining()) {
+            throw new IOException("Пошкоджена книга дебютів: " + source);
+        }
+        return new OpeningBook(buffer.slice(), count);
+    }
+
+    // Кількість записів
+    public int size() {
+        return count;
+    }
+
+    // Чи є позиція в книзі
+    public boolean contains(Board board, Piece.Color color) {
+        long key = keyOf(board, color);
+        int first = firstRecord(key);
+        return first < count && keyAt(first) == key;
+    }
+
+    // Хід з книги, обраний випадково пропорційно вазі, або null, якщо позиції немає в книзі
+    public synchronized AIStrategy.Move chooseMove(Board board, Piece.Color color) {
+        long key = keyOf(board, color);
+        int first = firstRecord(key);
+        if (first >= count || keyAt(first) != key) {
+            return null;
+        }
+
+        MoveGenerator.generateMoves(board, color, legalMoves);
+
+        // Перший прохід - сума ваг легальних записів, другий - вибір
+        int total = 0;
+        for (int i = first; i < count && keyAt(i) == key; i++) {
+            if (legalIndex(moveAt(i)) >= 0) {
+                total += weightAt(i);
+            }
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        int target = random.nextInt(total);
+        for (int i = first; i < count && keyAt(i) == key; i++) {
+            int move = moveAt(i);
+            int index = legalIndex(move);
+            if (index < 0) {
+                continue;
+            }
+            target -= weightAt(i);
+            if (target < 0) {
+                int from = MoveList.from(move);
+                int to = MoveList.to(move);
+                return new AIStrategy.Move(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to),
+                        legalMoves.getCaptured(index));
+            }
+        }
+        return null;
+    }
+
+    // Ключ позиції з урахуванням сторони, яка ходить (дошка не змінюється)
+    private static long keyOf(Board board, Piece.Color color) {
+        long key = board.getZobristKey();
+        return board.getSideToMove() == color ? key : key ^ Zobrist.BLACK_TO_MOVE;
+    }
+
+    // Двійковий пошук першого запису з ключем, не меншим за key
+    private int firstRecord(long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyAt(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Індекс ходу серед легальних або -1 (книга зберігає лише упакований хід, тож з ланцюжків
+    // між тими самими клітинками береться перший)
+    private int legalIndex(int move) {
+        for (int i = 0; i < legalMoves.size(); i++) {
+            if (legalMoves.getMove(i) == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long keyAt(int record) {
+        return records.getLong(record * RECORD_BYTES);
+    }
+
+    private int moveAt(int record) {
+        return records.getShort(record * RECORD_BYTES + 8) & 0xFFFF;
+    }
+
+    private int weightAt(int record) {
+        return records.getShort(record * RECORD_BYTES + 10) & 0xFFFF;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.MoveGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Офлайн-генератор книги дебютів з партій PDN або з самогри рушія.
+// Запуск: java ... OpeningBookGenerator <файл> [партії.pdn ...] (без PDN - самогра)
+public class OpeningBookGenerator {
+    // Скільки напівходів від початку партії потрапляє в книгу
+    public static final int DEFAULT_BOOK_PLIES = 10;
+
+    // Параметри самогри: кількість партій, глибина оцінки ходів і допустиме відставання від найкращого
+    public static final int DEFAULT_SELF_PLAY_GAMES = 200;
+    public static final int DEFAULT_SELF_PLAY_DEPTH = 8;
+    public static final int DEFAULT_SELF_PLAY_MARGIN = 20;
+
+    // Лексеми PDN: тег [Назва "значення"], коментар, результат, хід з необов'язковим номером "12."
+    private static final Pattern TOKEN = Pattern.compile(
+            "\\[(\\w+)\\s+\"([^\"]*)\"\\]|\\{[^}]*\\}|(1/2-1/2|\\*)|(?:\\d+\\.+)?(\\d+(?:[-x]\\d+)+)");
+
+    // Результати, схожі на хід (клітинки 0 немає, тож з ходами вони не плутаються)
+    private static final Pattern SCORE_RESULT = Pattern.compile("1-0|0-1|2-0|0-2|1-1");
+
+    private final int bookPlies;
+
+    // Ключ позиції -> (хід -> вага); TreeMap упорядковує ключі так само, як двійковий пошук у книзі
+    private final Map<Long, Map<Integer, Integer>> entries = new TreeMap<>();
+
+    private final MoveList moves = new MoveList();
+
+    // Стан розбору PDN: поточна партія, її напівхід (-1 - партію обірвано), початкова позиція з тегу FEN
+    private Board pdnBoard;
+    private int pdnPly;
+    private String pdnFen;
+    private int pdnGames;
+
+    public OpeningBookGenerator(int bookPlies) {
+        this.bookPlies = bookPlies;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Використання: OpeningBookGenerator <файл> [партії.pdn ...]");
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        OpeningBookGenerator generator = new OpeningBookGenerator(DEFAULT_BOOK_PLIES);
+        if (args.length > 1) {
+            for (int i = 1; i < args.length; i++) {
+                String pdn = new String(Files.readAllBytes(new File(args[i]).toPath()), StandardCharsets.UTF_8);
+                generator.addPdn(pdn);
+            }
+        } else {
+            generator.addSelfPlay(DEFAULT_SELF_PLAY_GAMES, DEFAULT_SELF_PLAY_DEPTH, DEFAULT_SELF_PLAY_MARGIN, 1);
+        }
+        generator.write(new File(args[0]));
+        System.out.printf("Книгу з %d записів згенеровано за %d с%n", generator.size(),
+                (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    // Додати партії з тексту PDN (кожна входить у книгу першими bookPlies напівходами)
+    public int addPdn(String pdn) {
+        pdnGames = 0;
+        Matcher token = TOKEN.matcher(pdn);
+        while (token.find()) {
+            if (token.group(1) != null) {
+                // Перший тег після ходів починає нову партію, теги одного заголовка накопичуються
+                if (pdnBoard != null) {
+                    finishGame();
+                }
+                if (token.group(1).equalsIgnoreCase("FEN")) {
+                    pdnFen = token.group(2);
+                }
+            } else if (token.group(3) != null
+                    || (token.group(4) != null && SCORE_RESULT.matcher(token.group(4)).matches())) {
+                finishGame();
+            } else if (token.group(4) != null) {
+                addPdnMove(token.group(4));
+            }
+        }
+        finishGame();
+        return pdnGames;
+    }
+
+    private void addPdnMove(String notation) {
+        if (pdnBoard == null) {
+            pdnBoard = BoardNotation.fromFen(pdnFen != null ? pdnFen : BoardNotation.INITIAL_FEN);
+            pdnPly = 0;
+        }
+        if (pdnPly < 0 || pdnPly >= bookPlies) {
+            return;
+        }
+
+        int index = findPdnMove(pdnBoard, notation);
+        if (index < 0) {
+            // Нелегальний хід - решту партії пропускаємо
+            pdnPly = -1;
+            return;
+        }
+        addMove(pdnBoard.getZobristKey(), moves.getMove(index), 1);
+        pdnBoard.makeMove(moves.getMove(index), moves.getCaptured(index));
+        pdnPly++;
+    }
+
+    private void finishGame() {
+        if (pdnBoard != null && pdnPly != 0) {
+            pdnGames++;
+        }
+        pdnBoard = null;
+        pdnFen = null;
+    }
+
+    // Зіграти партії рушія з самим собою: у кожній позиції в книгу йдуть ходи, не гірші за найкращий
+    // більш ніж на margin (вага тим більша, чим ближчий хід до найкращого), а партія продовжується
+    // випадковим з них пропорційно вазі
+    public void addSelfPlay(int games, int depth, int margin, long seed) {
+        SearchStrategy strategy = new SearchStrategy(depth, Long.MAX_VALUE,
+                new TranspositionTable(SearchStrategy.DEFAULT_TT_SIZE_MB));
+        Random random = new Random(seed);
+
+        for (int game = 0; game < games; game++) {
+            Board board = BoardNotation.fromFen(BoardNotation.INITIAL_FEN);
+            for (int ply = 0; ply < bookPlies; ply++) {
+                long key = board.getZobristKey();
+                if (!entries.containsKey(key)) {
+                    addCandidates(board, strategy, margin);
+                }
+                Map<Integer, Integer> candidates = entries.get(key);
+                if (candidates == null) {
+                    break;
+                }
+
+                int move = pickWeighted(candidates, random);
+                MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+                int index = indexOf(move);
+                board.makeMove(moves.getMove(index), moves.getCaptured(index));
+            }
+        }
+    }
+
+    // Оцінити всі ходи позиції пошуком і додати ті, що в межах margin від найкращого
+    private void addCandidates(Board board, SearchStrategy strategy, int margin) {
+        Piece.Color side = board.getSideToMove();
+        Piece.Color opponent = MoveGenerator.opposite(side);
+        MoveGenerator.generateMoves(board, side, moves);
+        int count = moves.size();
+        if (count == 0) {
+            return;
+        }
+
+        int[] candidates = new int[count];
+        int[] captured = new int[count];
+        int[] scores = new int[count];
+        int best = -SearchStrategy.WIN_SCORE;
+        for (int i = 0; i < count; i++) {
+            candidates[i] = moves.getMove(i);
+            captured[i] = moves.getCaptured(i);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Board child = new Board(board);
+            child.makeMove(candidates[i], captured[i]);
+            if (!MoveGenerator.hasMoves(child, opponent)) {
+                scores[i] = SearchStrategy.WIN_SCORE;
+            } else {
+                strategy.chooseMove(child, opponent);
+                scores[i] = -strategy.getLastScore();
+            }
+            best = Math.max(best, scores[i]);
+        }
+
+        for (int i = 0; i < count; i++) {
+            int behind = best - scores[i];
+            if (behind <= margin) {
+                addMove(board.getZobristKey(), candidates[i], margin - behind + 1);
+            }
+        }
+    }
+
+    // Випадковий хід пропорційно вазі
+    private static int pickWeighted(Map<Integer, Integer> candidates, Random random) {
+        int total = 0;
+        for (int weight : candidates.values()) {
+            total += weight;
+        }
+        int target = random.nextInt(total);
+        for (Map.Entry<Integer, Integer> candidate : candidates.entrySet()) {
+            target -= candidate.getValue();
+            if (target < 0) {
+                return candidate.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // Знайти легальний хід за записом PDN "11-15" або "9x18x27" (проміжні клітинки уточнюють взяття)
+    private int findPdnMove(Board board, String notation) {
+        String[] parts = notation.split("[-x]");
+        int[] path = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            int pdn = Integer.parseInt(parts[i]);
+            if (pdn < 1 || pdn > Board.SQUARES) {
+                return -1;
+            }
+            path[i] = BoardNotation.fromPdn(pdn);
+        }
+
+        // Взяті шашки - посередині кожного стрибка шляху
+        int expectedCaptured = 0;
+        if (notation.indexOf('x') >= 0) {
+            for (int i = 1; i < path.length; i++) {
+                int row = (Board.rowOf(path[i - 1]) + Board.rowOf(path[i])) / 2;
+                int col = (Board.colOf(path[i - 1]) + Board.colOf(path[i])) / 2;
+                if (Math.abs(Board.rowOf(path[i - 1]) - Board.rowOf(path[i])) == 2) {
+                    expectedCaptured |= 1 << Board.toSquare(row, col);
+                }
+            }
+        }
+
+        MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.getMove(i);
+            if (MoveList.from(move) == path[0] && MoveList.to(move) == path[path.length - 1]
+                    && (path.length == 2 || moves.getCaptured(i) == expectedCaptured)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(int move) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.getMove(i) == move) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Хід з книги не знайдено серед легальних");
+    }
+
+    private void addMove(long key, int move, int weight) {
+        entries.computeIfAbsent(key, k -> new TreeMap<>()).merge(move, weight, Integer::sum);
+    }
+
+    // Кількість записів (позиція, хід)
+    public int size() {
+        int size = 0;
+        for (Map<Integer, Integer> positionMoves : entries.values()) {
+            size += positionMoves.size();
+        }
+        return size;
+    }
+
+    // Записати книгу: записи відсортовані за ключем, ваги обрізаються до беззнакового short
+    public void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Не вдалося створити каталог " + parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeInt(OpeningBook.VERSION);
+            out.writeInt(size());
+            for (Map.Entry<Long, Map<Integer, Integer>> position : entries.entrySet()) {
+                for (Map.Entry<Integer, Integer> move : position.getValue().entrySet()) {
+                    out.writeLong(position.getKey());
+                    out.writeShort(move.getKey());
+                    out.writeShort(Math.min(move.getValue(), OpeningBook.MAX_WEIGHT));
+                }
+            }
+        }
+    }
+}
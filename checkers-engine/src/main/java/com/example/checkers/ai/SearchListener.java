@@ -0,0 +1,6 @@
+package com.example.checkers.ai;
+
+// Слухач прогресу пошуку (викликається з потоку пошуку після кожної завершеної ітерації)
+public interface SearchListener {
+    void onSearchProgress(SearchProgress progress);
+}
@@ -0,0 +1,46 @@
+package com.example.checkers.ai;
+
+// Знімок прогресу пошуку після завершеної ітерації
+public class SearchProgress {
+    private final int depth;
+    private final int score;
+    private final long nodes;
+    private final long quiescenceNodes;
+    private final long nodesPerSecond;
+    private final String principalVariation;
+
+    public SearchProgress(int depth, int score, long nodes, long quiescenceNodes, long nodesPerSecond,
+                          String principalVariation) {
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+        this.quiescenceNodes = quiescenceNodes;
+        this.nodesPerSecond = nodesPerSecond;
+        this.principalVariation = principalVariation;
+    }
+
+    // Getters
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    public long getNodesPerSecond() {
+        return nodesPerSecond;
+    }
+
+    public String getPrincipalVariation() {
+        return principalVariation;
+    }
+}
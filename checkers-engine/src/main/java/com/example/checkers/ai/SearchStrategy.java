@@ -0,0 +1,390 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.DrawRules;
+import com.example.checkers.utils.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Пошук negamax з альфа-бета відсіканням; ходи виконуються на місці через makeMove/unmakeMove.
+// У режимі Lazy SMP допоміжні потоки шукають той самий корінь на власних копіях дошки
+// і наповнюють спільну таблицю транспозицій; хід повертає головний потік.
+public class SearchStrategy implements AIStrategy {
+    // Оцінка виграшу (мінус глибина, щоб обирати найкоротший шлях до перемоги)
+    public static final int WIN_SCORE = 100000;
+
+    // Максимальна глибина дерева пошуку
+    static final int MAX_PLY = 64;
+
+    // Оцінки, ближчі до WIN_SCORE, означають форсований виграш/програш
+    // (із запасом на відстані з бази ендшпілю, довші за глибину дерева)
+    static final int WIN_THRESHOLD = WIN_SCORE - MAX_PLY - 256;
+
+    // Ліміт часу пондерингу у звичайних лімітах на хід: людина може думати довго, а пошук займає всі потоки
+    static final int PONDER_TIME_FACTOR = 4;
+
+    // Розмір таблиці транспозицій за замовчуванням (підходить і для слабких пристроїв)
+    public static final int DEFAULT_TT_SIZE_MB = 16;
+
+    private final int maxDepth;
+    private final long timeLimitNanos;
+    private final long ponderLimitNanos;
+    private final TranspositionTable transpositionTable;
+
+    // Оцінювальна функція (ваги з eval_weights.properties)
+    private volatile Evaluator evaluator = new Evaluator(EvalWeights.load());
+
+    // База ендшпілю (може бути відсутня)
+    private volatile EndgameTablebase tablebase;
+
+    // Правила нічиєї, що діють і в дереві пошуку
+    private volatile DrawRules drawRules = DrawRules.STANDARD;
+
+    // Головний потік пошуку і допоміжні потоки Lazy SMP
+    private final SearchWorker mainWorker;
+    private SearchWorker[] helpers = new SearchWorker[0];
+    private ExecutorService helperPool;
+    private int threadCount = 1;
+
+    // Спільний стан поточного пошуку
+    private volatile long startNanos;
+    private volatile boolean helpersStopRequested;
+
+    // Зовнішня зупинка пошуку з іншого потоку (скасування ходу, нова гра): кожен stop() збільшує
+    // лічильник, і пошук зупиняється, якщо лічильник змінився після видачі його токена
+    private final AtomicLong stopCount = new AtomicLong();
+    private volatile long searchToken;
+
+    // Пондеринг: поки людина думає, діє збільшений ліміт часу; після влучання звичайний ліміт
+    // відлічується від початку пошуку
+    private volatile boolean pondering;
+
+    // Слухач прогресу ітерацій
+    private volatile SearchListener searchListener;
+
+    // Статистика останнього пошуку
+    private long nodesSearched;
+    private long quiescenceNodes;
+    private long tablebaseHits;
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    private long elapsedNanos;
+    private int lastScore;
+    private int completedDepth;
+
+    // Конструктор з рівнем складності
+    public SearchStrategy(Difficulty difficulty) {
+        this(depthFor(difficulty), timeLimitFor(difficulty), new TranspositionTable(DEFAULT_TT_SIZE_MB),
+                threadsFor(difficulty));
+    }
+
+    // Конструктор з граничною глибиною, лімітом часу на хід і таблицею транспозицій
+    public SearchStrategy(int maxDepth, long timeLimitMillis, TranspositionTable transpositionTable) {
+        this(maxDepth, timeLimitMillis, transpositionTable, 1);
+    }
+
+    // Конструктор із заданою кількістю потоків пошуку
+    public SearchStrategy(int maxDepth, long timeLimitMillis, TranspositionTable transpositionTable, int threads) {
+        this.maxDepth = Math.min(maxDepth, MAX_PLY - 1);
+        this.timeLimitNanos = timeLimitMillis >= Long.MAX_VALUE / 1_000_000L
+                ? Long.MAX_VALUE
+                : timeLimitMillis * 1_000_000L;
+        this.ponderLimitNanos = timeLimitNanos >= Long.MAX_VALUE / PONDER_TIME_FACTOR
+                ? Long.MAX_VALUE
+                : timeLimitNanos * PONDER_TIME_FACTOR;
+        this.transpositionTable = transpositionTable;
+        this.mainWorker = new SearchWorker(this, transpositionTable, 0);
+        setThreadCount(threads);
+    }
+
+    // Гранична глибина ітеративного поглиблення для рівня складності
+    private static int depthFor(Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY:
+                return 2;
+            case MEDIUM:
+                return 8;
+            default:
+                return MAX_PLY - 1;
+        }
+    }
+
+    // Ліміт часу на хід для рівня складності
+    private static long timeLimitFor(Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY:
+                return 200L;
+            case MEDIUM:
+                return 1000L;
+            default:
+                return 5000L;
+        }
+    }
+
+    // Кількість потоків для рівня складності: усі ядра лише на найвищому рівні
+    private static int threadsFor(Difficulty difficulty) {
+        return difficulty == Difficulty.HARD ? Runtime.getRuntime().availableProcessors() : 1;
+    }
+
+    // Задати кількість потоків пошуку (1 - без паралельного пошуку)
+    public synchronized void setThreadCount(int threads) {
+        int count = Math.max(1, threads);
+        if (count == threadCount && helpers.length == count - 1) {
+            return;
+        }
+        if (helperPool != null) {
+            helperPool.shutdownNow();
+            helperPool = null;
+        }
+
+        threadCount = count;
+        helpers = new SearchWorker[count - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = new SearchWorker(this, transpositionTable, i + 1);
+        }
+        if (helpers.length > 0) {
+            helperPool = Executors.newFixedThreadPool(helpers.length, runnable -> {
+                Thread thread = new Thread(runnable, "checkers-search-helper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // Синхронний вибір ходу: зупиняють лише виклики stop() під час пошуку
+    @Override
+    public Move chooseMove(Board board, Piece.Color aiColor) {
+        return chooseMove(board, aiColor, stopToken());
+    }
+
+    @Override
+    public synchronized Move chooseMove(Board board, Piece.Color aiColor, long stopToken) {
+        startNanos = System.nanoTime();
+        completedDepth = 0;
+        searchToken = stopToken;
+        helpersStopRequested = false;
+        transpositionTable.newSearch();
+        board.setSideToMove(aiColor);
+        Evaluator currentEvaluator = evaluator;
+        EndgameTablebase currentTablebase = tablebase;
+        DrawRules currentDrawRules = drawRules;
+        currentEvaluator.attach(board);
+
+        if (!mainWorker.prepare(board, aiColor, currentEvaluator, currentTablebase, currentDrawRules)) {
+            nodesSearched = 0;
+            quiescenceNodes = 0;
+            tablebaseHits = 0;
+            betaCutoffs = 0;
+            firstMoveCutoffs = 0;
+            elapsedNanos = System.nanoTime() - startNanos;
+            return null;
+        }
+
+        // Допоміжні потоки отримують власні копії дошки
+        List<Future<?>> running = new ArrayList<>(helpers.length);
+        for (SearchWorker helper : helpers) {
+            if (helper.prepare(new Board(board), aiColor, currentEvaluator, currentTablebase,
+                    currentDrawRules)) {
+                running.add(helperPool.submit(() -> helper.iterativeDeepening(maxDepth)));
+            }
+        }
+
+        mainWorker.iterativeDeepening(maxDepth);
+
+        // Головний потік завершив - зупиняємо допоміжні і чекаємо на них
+        helpersStopRequested = true;
+        for (Future<?> future : running) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Помилка в потоці пошуку", e.getCause());
+            }
+        }
+
+        nodesSearched = totalNodes();
+        quiescenceNodes = totalQuiescenceNodes();
+        tablebaseHits = mainWorker.getTablebaseHits();
+        betaCutoffs = mainWorker.getBetaCutoffs();
+        firstMoveCutoffs = mainWorker.getFirstMoveCutoffs();
+        for (SearchWorker helper : helpers) {
+            tablebaseHits += helper.getTablebaseHits();
+            betaCutoffs += helper.getBetaCutoffs();
+            firstMoveCutoffs += helper.getFirstMoveCutoffs();
+        }
+        lastScore = mainWorker.getBestScore();
+        completedDepth = mainWorker.getCompletedDepth();
+        elapsedNanos = System.nanoTime() - startNanos;
+
+        int bestMove = mainWorker.getBestMove();
+        int from = MoveList.from(bestMove);
+        int to = MoveList.to(bestMove);
+        return new Move(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to),
+                mainWorker.getBestCaptured());
+    }
+
+    // Повідомлення головного потоку про завершену ітерацію
+    void onIterationComplete(SearchWorker worker) {
+        completedDepth = worker.getCompletedDepth();
+        SearchListener listener = searchListener;
+        if (listener != null) {
+            long nodes = totalNodes();
+            long elapsed = Math.max(System.nanoTime() - startNanos, 1);
+            listener.onSearchProgress(new SearchProgress(worker.getCompletedDepth(), worker.getBestScore(),
+                    nodes, totalQuiescenceNodes(), nodes * 1_000_000_000L / elapsed, worker.principalVariation()));
+        }
+    }
+
+    // Чи вичерпано ліміт часу на хід (або на пондеринг)
+    boolean isTimeUp() {
+        return System.nanoTime() - startNanos >= (pondering ? ponderLimitNanos : timeLimitNanos);
+    }
+
+    // Чи потрібно зупинити потік (допоміжні зупиняються, щойно завершився головний)
+    boolean isStopRequested(boolean main) {
+        return stopCount.get() != searchToken || (!main && helpersStopRequested);
+    }
+
+    // Сума вузлів усіх потоків (лічильники допоміжних потоків можуть трохи відставати)
+    private long totalNodes() {
+        long nodes = mainWorker.getNodesSearched();
+        for (SearchWorker helper : helpers) {
+            nodes += helper.getNodesSearched();
+        }
+        return nodes;
+    }
+
+    // Сума вузлів пошуку спокою усіх потоків
+    private long totalQuiescenceNodes() {
+        long nodes = mainWorker.getQuiescenceNodes();
+        for (SearchWorker helper : helpers) {
+            nodes += helper.getQuiescenceNodes();
+        }
+        return nodes;
+    }
+
+    @Override
+    public void stop() {
+        stopCount.incrementAndGet();
+    }
+
+    @Override
+    public long stopToken() {
+        return stopCount.get();
+    }
+
+    @Override
+    public void setSearchListener(SearchListener listener) {
+        this.searchListener = listener;
+    }
+
+    @Override
+    public void setPondering(boolean pondering) {
+        this.pondering = pondering;
+    }
+
+    // Очікуваний хід у позиції за таблицею транспозицій (продовження головного варіанту останнього пошуку).
+    // Легальні ходи пишуться в legalMoves; повертає індекс ходу в ньому або -1.
+    // Викликати, лише коли пошук не виконується
+    public int predictMove(Board board, MoveList legalMoves) {
+        MoveGenerator.generateMoves(board, board.getSideToMove(), legalMoves);
+        if (legalMoves.size() == 1) {
+            return 0;
+        }
+        long entry = transpositionTable.probe(board.getZobristKey());
+        if (entry == 0) {
+            return -1;
+        }
+        int move = TranspositionTable.move(entry);
+        for (int i = 0; i < legalMoves.size(); i++) {
+            if (legalMoves.getMove(i) == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Замінити оцінювальну функцію (діє з наступного пошуку)
+    public void setEvaluator(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    // Оцінювальна функція пошуку
+    public Evaluator getEvaluator() {
+        return evaluator;
+    }
+
+    // Підключити базу ендшпілю (null - без бази); діє з наступного пошуку
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    // Задати правила нічиєї; діють з наступного пошуку
+    public void setDrawRules(DrawRules drawRules) {
+        this.drawRules = drawRules;
+    }
+
+    // Кількість потоків пошуку
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    // Кількість вузлів останнього пошуку (усі потоки)
+    public long getNodesSearched() {
+        return nodesSearched;
+    }
+
+    // Кількість вузлів пошуку спокою останнього пошуку (входять у getNodesSearched)
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    // Частка відсікань на першому ж ході у відсотках (якість впорядкування ходів)
+    public double getFirstMoveCutoffPercent() {
+        return betaCutoffs > 0 ? 100.0 * firstMoveCutoffs / betaCutoffs : 0;
+    }
+
+    // Кількість звернень до бази ендшпілю з результатом за останній пошук
+    public long getTablebaseHits() {
+        return tablebaseHits;
+    }
+
+    // Кількість бета-відсікань останнього пошуку
+    public long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+
+    // Швидкість останнього пошуку у вузлах за секунду
+    public long getNodesPerSecond() {
+        return elapsedNanos > 0 ? nodesSearched * 1_000_000_000L / elapsedNanos : 0;
+    }
+
+    // Тривалість останнього пошуку в мілісекундах
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000L;
+    }
+
+    // Таблиця транспозицій пошуку
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    // Глибина останньої повністю завершеної ітерації
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    // Оцінка найкращого ходу останнього пошуку
+    public int getLastScore() {
+        return lastScore;
+    }
+}
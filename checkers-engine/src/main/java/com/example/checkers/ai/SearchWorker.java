@@ -0,0 +1,533 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.DrawRules;
+import com.example.checkers.utils.MoveGenerator;
+
+// Стан пошуку одного потоку: власна дошка, буфери ходів і лічильники.
+// Усі потоки ділять лише таблицю транспозицій та прапорці зупинки SearchStrategy.
+class SearchWorker {
+    // Напівширина вікна аспірації навколо оцінки попередньої ітерації
+    private static final int ASPIRATION_WINDOW = 50;
+
+    // Як часто (у вузлах) перевіряти годинник
+    private static final int TIME_CHECK_MASK = 1023;
+
+    // Пріоритети впорядкування: хід з таблиці, взяття, ходи-вбивці, далі - історія
+    private static final int HASH_MOVE_SCORE = 1 << 30;
+    private static final int CAPTURE_SCORE = 1 << 29;
+    private static final int KILLER_SCORE = 1 << 28;
+
+    // Межа лічильника історії; при перевищенні всі значення зменшуються вдвічі
+    private static final int HISTORY_LIMIT = KILLER_SCORE - 1;
+
+    private final SearchStrategy owner;
+    private final TranspositionTable transpositionTable;
+    private final int id;
+
+    // Буфери ходів для кожного рівня дерева
+    private final MoveList[] moveLists = new MoveList[SearchStrategy.MAX_PLY];
+
+    // Оцінки впорядкування, паралельні до moveLists (без упаковки і Comparator)
+    private final int[][] orderScores = new int[SearchStrategy.MAX_PLY][MoveList.CAPACITY];
+
+    // Два ходи-вбивці на кожен рівень і таблиця історії [звідки][куди]
+    private final int[][] killers = new int[SearchStrategy.MAX_PLY][2];
+    private final int[][] history = new int[Board.SQUARES][Board.SQUARES];
+
+    private Board board;
+    private Piece.Color rootColor;
+    private Evaluator evaluator;
+    private EndgameTablebase tablebase;
+    private DrawRules drawRules;
+
+    // Результати та статистика пошуку
+    private long nodesSearched;
+    private long quiescenceNodes;
+    private long tablebaseHits;
+
+    // Статистика відсікань: усього і на першому ж ході
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    private int completedDepth;
+    private int bestMove;
+    private int bestCaptured;
+    private int bestScore;
+    private boolean aborted;
+
+    // Індекс найкращого ходу кореня в поточній ітерації
+    private int rootBestIndex;
+
+    SearchWorker(SearchStrategy owner, TranspositionTable transpositionTable, int id) {
+        this.owner = owner;
+        this.transpositionTable = transpositionTable;
+        this.id = id;
+        for (int i = 0; i < moveLists.length; i++) {
+            moveLists[i] = new MoveList();
+        }
+    }
+
+    // Підготовка до пошуку; false, якщо ходів немає
+    boolean prepare(Board board, Piece.Color color, Evaluator evaluator, EndgameTablebase tablebase,
+                    DrawRules drawRules) {
+        this.board = board;
+        this.rootColor = color;
+        this.evaluator = evaluator;
+        this.tablebase = tablebase;
+        this.drawRules = drawRules;
+        nodesSearched = 0;
+        quiescenceNodes = 0;
+        tablebaseHits = 0;
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+        completedDepth = 0;
+        aborted = false;
+        resetOrdering();
+
+        MoveList rootMoves = moveLists[0];
+        MoveGenerator.generateMoves(board, color, rootMoves);
+        if (rootMoves.isEmpty()) {
+            return false;
+        }
+
+        // Допоміжні потоки починають з різних ходів, щоб розійтися по дереву
+        for (int shift = id % rootMoves.size(); shift > 0; shift--) {
+            moveToFront(rootMoves, rootMoves.size() - 1);
+        }
+        bestMove = rootMoves.getMove(0);
+        bestCaptured = rootMoves.getCaptured(0);
+        bestScore = 0;
+        return true;
+    }
+
+    // Ітеративне поглиблення: результат береться лише з повністю завершених ітерацій
+    void iterativeDeepening(int maxDepth) {
+        MoveList rootMoves = moveLists[0];
+        int score = 0;
+
+        // Непарні допоміжні потоки стартують на глибину вище, щоб ітерації були зміщені
+        for (int depth = 1 + (id & 1); depth <= maxDepth; depth++) {
+            int alpha = -SearchStrategy.WIN_SCORE - 1;
+            int beta = SearchStrategy.WIN_SCORE + 1;
+            if (depth >= 3) {
+                alpha = score - ASPIRATION_WINDOW;
+                beta = score + ASPIRATION_WINDOW;
+            }
+
+            int iterationScore = searchRoot(depth, alpha, beta);
+            // Вихід за вікно аспірації - повторний пошук з відкритою межею
+            if (!aborted && iterationScore <= alpha) {
+                iterationScore = searchRoot(depth, -SearchStrategy.WIN_SCORE - 1, beta);
+            }
+            if (!aborted && iterationScore >= beta) {
+                iterationScore = searchRoot(depth, -SearchStrategy.WIN_SCORE - 1, SearchStrategy.WIN_SCORE + 1);
+            }
+            if (aborted) {
+                break;
+            }
+
+            score = iterationScore;
+            completedDepth = depth;
+            bestScore = score;
+            bestMove = rootMoves.getMove(rootBestIndex);
+            bestCaptured = rootMoves.getCaptured(rootBestIndex);
+            moveToFront(rootMoves, rootBestIndex);
+            transpositionTable.store(board.getZobristKey(), bestMove, score, depth, TranspositionTable.BOUND_EXACT);
+
+            if (isMain()) {
+                owner.onIterationComplete(this);
+            }
+
+            // Форсований результат знайдено або час вичерпано - глибше не йдемо
+            if (Math.abs(score) > SearchStrategy.WIN_THRESHOLD || owner.isTimeUp()) {
+                break;
+            }
+        }
+    }
+
+    // Пошук у корені на заданій глибині; індекс найкращого ходу записується в rootBestIndex
+    private int searchRoot(int depth, int alpha, int beta) {
+        MoveList rootMoves = moveLists[0];
+        Piece.Color opponent = MoveGenerator.opposite(rootColor);
+        int bestScore = -SearchStrategy.WIN_SCORE - 1;
+        rootBestIndex = 0;
+
+        for (int i = 0; i < rootMoves.size(); i++) {
+            board.makeMove(rootMoves.getMove(i), rootMoves.getCaptured(i));
+            int score = -negamax(opponent, depth - 1, -beta, -Math.max(alpha, bestScore), 1);
+            board.unmakeMove();
+
+            if (aborted) {
+                return bestScore; // Результат перерваної ітерації недостовірний
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                rootBestIndex = i;
+            }
+            if (bestScore >= beta) {
+                break;
+            }
+        }
+        return bestScore;
+    }
+
+    // Рекурсивний negamax з альфа-бета відсіканням
+    private int negamax(Piece.Color color, int depth, int alpha, int beta, int ply) {
+        nodesSearched++;
+        if ((nodesSearched & TIME_CHECK_MASK) == 0) {
+            checkStop();
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        // Повторення або ходи без прогресу - нічия (рахунки ведуться в Board, перевірка O(1))
+        if (drawRules.isSearchDraw(board)) {
+            return 0;
+        }
+
+        // Для позицій з бази ендшпілю результат відомий точно
+        if (tablebase != null) {
+            int value = tablebase.probe(board);
+            if (value != EndgameTablebase.NOT_FOUND) {
+                tablebaseHits++;
+                return tablebaseScore(value, ply);
+            }
+        }
+
+        // Перевірка таблиці транспозицій
+        long key = board.getZobristKey();
+        long entry = transpositionTable.probe(key);
+        int hashMove = entry != 0 ? TranspositionTable.move(entry) : 0;
+        if (entry != 0 && TranspositionTable.depth(entry) >= depth) {
+            int ttScore = scoreFromTable(TranspositionTable.score(entry), ply);
+            int bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.BOUND_EXACT
+                    || (bound == TranspositionTable.BOUND_LOWER && ttScore >= beta)
+                    || (bound == TranspositionTable.BOUND_UPPER && ttScore <= alpha)) {
+                return ttScore;
+            }
+        }
+
+        // На горизонті доводимо до кінця всі розміни, що тривають
+        if (depth <= 0) {
+            return quiescence(color, alpha, beta, ply);
+        }
+
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateMoves(board, color, moves);
+
+        // Немає ходів - поразка
+        if (moves.isEmpty()) {
+            return -SearchStrategy.WIN_SCORE + ply;
+        }
+        if (ply >= SearchStrategy.MAX_PLY - 1) {
+            return evaluator.evaluate(board, color);
+        }
+
+        Piece.Color opponent = MoveGenerator.opposite(color);
+        int originalAlpha = alpha;
+        int bestScore = -SearchStrategy.WIN_SCORE - 1;
+        int bestMove = 0;
+        int[] scores = orderScores[ply];
+        scoreMoves(moves, scores, hashMove, ply);
+
+        for (int i = 0; i < moves.size(); i++) {
+            pickNext(moves, scores, i);
+            int move = moves.getMove(i);
+            board.makeMove(move, moves.getCaptured(i));
+            int score = -negamax(opponent, depth - 1, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+
+            if (aborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                betaCutoffs++;
+                if (i == 0) {
+                    firstMoveCutoffs++;
+                }
+                if (moves.getCaptured(i) == 0) {
+                    rememberQuietCutoff(move, depth, ply);
+                }
+                break;
+            }
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.BOUND_LOWER
+                : bestScore > originalAlpha ? TranspositionTable.BOUND_EXACT
+                : TranspositionTable.BOUND_UPPER;
+        transpositionTable.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    // Пошук спокою: продовжуємо лише взяття, доки вони є. Взяття обов'язкове,
+    // тому оцінка "стоячи на місці" допустима лише в позиції без взять
+    private int quiescence(Piece.Color color, int alpha, int beta, int ply) {
+        nodesSearched++;
+        quiescenceNodes++;
+        if ((nodesSearched & TIME_CHECK_MASK) == 0) {
+            checkStop();
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        if (!MoveGenerator.hasCaptures(board, color)) {
+            if (!MoveGenerator.hasMoves(board, color)) {
+                return -SearchStrategy.WIN_SCORE + ply;
+            }
+            return evaluator.evaluate(board, color);
+        }
+        if (ply >= SearchStrategy.MAX_PLY - 1) {
+            return evaluator.evaluate(board, color);
+        }
+
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        MoveGenerator.generateCaptures(board, color, moves);
+        int[] scores = orderScores[ply];
+        scoreMoves(moves, scores, 0, ply);
+
+        Piece.Color opponent = MoveGenerator.opposite(color);
+        int bestScore = -SearchStrategy.WIN_SCORE - 1;
+        for (int i = 0; i < moves.size(); i++) {
+            pickNext(moves, scores, i);
+            board.makeMove(moves.getMove(i), moves.getCaptured(i));
+            int score = -quiescence(opponent, -beta, -alpha, ply + 1);
+            board.unmakeMove();
+
+            if (aborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return bestScore;
+    }
+
+    // Оцінити ходи для впорядкування: хід з таблиці, взяття за виграшем, вбивці, історія
+    private void scoreMoves(MoveList moves, int[] scores, int hashMove, int ply) {
+        int kings = board.getKings();
+        int manValue = evaluator.getWeights().getManValue();
+        int kingValue = evaluator.getWeights().getKingValue();
+        int[] plyKillers = killers[ply];
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.getMove(i);
+            int captured = moves.getCaptured(i);
+            if (move == hashMove) {
+                scores[i] = HASH_MOVE_SCORE;
+            } else if (captured != 0) {
+                scores[i] = CAPTURE_SCORE + manValue * Integer.bitCount(captured & ~kings)
+                        + kingValue * Integer.bitCount(captured & kings)
+                        + (MoveList.isPromotion(move) ? kingValue - manValue : 0);
+            } else if (move == plyKillers[0]) {
+                scores[i] = KILLER_SCORE + 1;
+            } else if (move == plyKillers[1]) {
+                scores[i] = KILLER_SCORE;
+            } else {
+                scores[i] = history[MoveList.from(move)][MoveList.to(move)];
+            }
+        }
+    }
+
+    // Вибір найкращого з ходів, що лишилися, на позицію index (сортування вибором)
+    private static void pickNext(MoveList moves, int[] scores, int index) {
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            moves.swap(index, best);
+            int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+    }
+
+    // Тихий хід, що дав відсікання, стає вбивцею і отримує бонус в історії
+    private void rememberQuietCutoff(int move, int depth, int ply) {
+        int[] plyKillers = killers[ply];
+        if (plyKillers[0] != move) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = move;
+        }
+
+        int from = MoveList.from(move);
+        int to = MoveList.to(move);
+        history[from][to] += depth * depth;
+        if (history[from][to] > HISTORY_LIMIT) {
+            for (int[] row : history) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+        }
+    }
+
+    // Новий пошук: вбивці очищуються, історія слабшає, але зберігається між ходами
+    private void resetOrdering() {
+        for (int[] plyKillers : killers) {
+            plyKillers[0] = 0;
+            plyKillers[1] = 0;
+        }
+        for (int[] row : history) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 2;
+            }
+        }
+    }
+
+    // Перевірка зупинки; головний потік не зупиняється до завершення першої ітерації
+    private void checkStop() {
+        if (owner.isStopRequested(isMain())
+                || ((!isMain() || completedDepth > 0) && owner.isTimeUp())) {
+            aborted = true;
+        }
+    }
+
+    // Головний варіант: ланцюжок найкращих ходів з таблиці транспозицій
+    String principalVariation() {
+        StringBuilder variation = new StringBuilder();
+        int played = 0;
+
+        while (played < completedDepth && played < SearchStrategy.MAX_PLY - 1) {
+            long entry = transpositionTable.probe(board.getZobristKey());
+            if (entry == 0) {
+                break;
+            }
+
+            // Хід з таблиці має бути легальним у цій позиції (захист від колізій)
+            MoveList moves = moveLists[played + 1];
+            MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+            int index = indexOf(moves, TranspositionTable.move(entry));
+            if (index < 0) {
+                break;
+            }
+
+            if (variation.length() > 0) {
+                variation.append(' ');
+            }
+            variation.append(MoveList.format(moves.getMove(index), moves.getCaptured(index)));
+            board.makeMove(moves.getMove(index), moves.getCaptured(index));
+            played++;
+        }
+
+        while (played-- > 0) {
+            board.unmakeMove();
+        }
+        return variation.toString();
+    }
+
+    // Чи це головний потік, чий результат повертається
+    private boolean isMain() {
+        return id == 0;
+    }
+
+    // Оцінка з бази: виграш/програш тим ближчий до WIN_SCORE, чим коротший шлях
+    private static int tablebaseScore(int value, int ply) {
+        if (EndgameTablebase.isWin(value)) {
+            return SearchStrategy.WIN_SCORE - ply - EndgameTablebase.distance(value);
+        }
+        if (EndgameTablebase.isLoss(value)) {
+            return -SearchStrategy.WIN_SCORE + ply + EndgameTablebase.distance(value);
+        }
+        return 0;
+    }
+
+    // Оцінки виграшу зберігаються відносно вузла, а не кореня
+    private static int scoreToTable(int score, int ply) {
+        if (score > SearchStrategy.WIN_THRESHOLD) {
+            return score + ply;
+        }
+        if (score < -SearchStrategy.WIN_THRESHOLD) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    // Перетворення оцінки з таблиці назад відносно кореня
+    private static int scoreFromTable(int score, int ply) {
+        if (score > SearchStrategy.WIN_THRESHOLD) {
+            return score - ply;
+        }
+        if (score < -SearchStrategy.WIN_THRESHOLD) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    // Перемістити хід на початок списку, зберігаючи порядок інших
+    private static void moveToFront(MoveList moves, int index) {
+        for (int i = index; i > 0; i--) {
+            moves.swap(i, i - 1);
+        }
+    }
+
+    // Індекс ходу в списку або -1
+    private static int indexOf(MoveList moves, int move) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.getMove(i) == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Getters
+    long getNodesSearched() {
+        return nodesSearched;
+    }
+
+    long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    long getTablebaseHits() {
+        return tablebaseHits;
+    }
+
+    long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+
+    long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+    int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    int getBestMove() {
+        return bestMove;
+    }
+
+    // Маска взятих шашок найкращого ходу (розрізняє ланцюжки з тими самими клітинками)
+    int getBestCaptured() {
+        return bestCaptured;
+    }
+
+    int getBestScore() {
+        return bestScore;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.checkers.ai;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Офлайн-генератор ендшпільної бази ретроградним аналізом.
+// Прохід k знаходить усі позиції з відстанню рівно k напівходів: виграш, якщо є хід у програш
+// суперника за k-1, програш, якщо всі ходи ведуть до виграшу суперника не пізніше ніж за k-1.
+// Позиції, що лишились невизначеними, - нічиї. Запуск: java ... TablebaseGenerator <файл> [шашок]
+public class TablebaseGenerator {
+    // Кількість шашок за замовчуванням (5-6 шашок потребують годин і гігабайтів)
+    public static final int DEFAULT_MAX_PIECES = 4;
+
+    // Невизначена позиція під час генерації
+    private static final byte UNKNOWN = Byte.MIN_VALUE;
+
+    // Немає ходу в програш суперника / серед готових ходів є нічия
+    private static final int NONE = Byte.MAX_VALUE;
+    private static final int HAS_DRAW = -1;
+
+    // Дочірня позиція в межах пари: номер таблиці пари у старшому біті, далі - індекс
+    private static final int SLOT_SHIFT = 31;
+    private static final int INDEX_MASK = Integer.MAX_VALUE;
+
+    private final int maxPieces;
+    private final byte[][] tables = new byte[TablebaseIndex.SIGNATURES][];
+    private final List<Integer> order = new ArrayList<>();
+
+    private final Board board = new Board();
+    private final MoveList moves = new MoveList();
+
+    // Найбільша відстань у вже згенерованих таблицях
+    private int maxDistance;
+
+    public TablebaseGenerator(int maxPieces) {
+        if (maxPieces < 2 || maxPieces > EndgameTablebase.MAX_PIECES) {
+            throw new IllegalArgumentException("Кількість шашок має бути від 2 до " + EndgameTablebase.MAX_PIECES);
+        }
+        this.maxPieces = maxPieces;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Використання: TablebaseGenerator <файл> [кількість шашок]");
+            System.exit(1);
+        }
+        int pieces = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_PIECES;
+
+        long start = System.nanoTime();
+        TablebaseGenerator generator = new TablebaseGenerator(pieces);
+        generator.generate();
+        generator.write(new File(args[0]));
+        System.out.printf("Базу до %d шашок згенеровано за %d с%n", pieces,
+                (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    // Згенерувати всі сигнатури від менших до більших
+    public void generate() {
+        List<Integer> signatures = new ArrayList<>();
+        for (int total = 2; total <= maxPieces; total++) {
+            // Спершу таблиці з меншою кількістю звичайних шашок: перетворення на дамку веде туди
+            for (int men = 0; men <= total; men++) {
+                addSignatures(signatures, total, men);
+            }
+        }
+
+        for (int signature : signatures) {
+            if (tables[signature] == null) {
+                generatePair(signature, TablebaseIndex.mirror(signature));
+            }
+        }
+    }
+
+    // Усі сигнатури із заданою загальною кількістю шашок і звичайних шашок
+    private void addSignatures(List<Integer> signatures, int total, int men) {
+        for (int wm = 0; wm <= men; wm++) {
+            int bm = men - wm;
+            for (int wk = 0; wk <= total - men; wk++) {
+                int bk = total - men - wk;
+                if (wm + wk > 0 && bm + bk > 0) {
+                    signatures.add(TablebaseIndex.signature(wm, wk, bm, bk));
+                }
+            }
+        }
+    }
+
+    // Сигнатура і її дзеркало залежать одна від одної, тому рахуються разом.
+    // Ходи генеруються один раз: результати ходів у вже готові таблиці (взяття, перетворення)
+    // зводяться до двох чисел, а ходи всередині пари запам'ятовуються як індекси дочірніх позицій,
+    // тож подальші проходи - лише звернення до масивів
+    private void generatePair(int signature, int mirror) {
+        int[] pair = signature == mirror ? new int[]{signature} : new int[]{signature, mirror};
+        PairState[] states = new PairState[pair.length];
+        for (int slot = 0; slot < pair.length; slot++) {
+            byte[] table = new byte[(int) TablebaseIndex.size(pair[slot])];
+            Arrays.fill(table, UNKNOWN);
+            tables[pair[slot]] = table;
+            order.add(pair[slot]);
+            states[slot] = new PairState(table.length);
+        }
+
+        // Прохід 0: позиції без ходів - програш; заодно збираємо дочірні позиції
+        for (int slot = 0; slot < pair.length; slot++) {
+            collectChildren(pair, slot, states[slot]);
+        }
+
+        for (int pass = 1; ; pass++) {
+            boolean changed = false;
+            for (int slot = 0; slot < pair.length; slot++) {
+                changed |= resolvePass(pair, states[slot], slot, pass);
+            }
+            if (!changed && pass > maxDistance + 1) {
+                break;
+            }
+        }
+
+        // Невизначені позиції - нічиї
+        for (int s : pair) {
+            byte[] table = tables[s];
+            for (int index = 0; index < table.length; index++) {
+                if (table[index] == UNKNOWN) {
+                    table[index] = 0;
+                } else if (table[index] != 0) {
+                    maxDistance = Math.max(maxDistance, EndgameTablebase.distance(table[index]));
+                }
+            }
+        }
+    }
+
+    // Згенерувати ходи всіх позицій таблиці один раз
+    private void collectChildren(int[] pair, int slot, PairState state) {
+        byte[] table = tables[pair[slot]];
+        for (int index = 0; index < table.length; index++) {
+            state.childStart[index] = state.childCount;
+            if (!load(pair[slot], index)) {
+                table[index] = 0; // Неможлива розстановка
+                continue;
+            }
+            MoveGenerator.generateMoves(board, Piece.Color.WHITE, moves);
+            if (moves.isEmpty()) {
+                table[index] = EndgameTablebase.lossValue(0);
+                continue;
+            }
+
+            int shortestLoss = NONE;
+            int longestWin = 0;
+            for (int i = 0; i < moves.size(); i++) {
+                board.makeMove(moves.getMove(i), moves.getCaptured(i));
+                int white = TablebaseIndex.rotate(board.getBlackPieces());
+                int black = TablebaseIndex.rotate(board.getWhitePieces());
+                int kings = TablebaseIndex.rotate(board.getKings());
+                board.unmakeMove();
+
+                if (white == 0) {
+                    shortestLoss = 0; // У суперника не лишилось шашок
+                    continue;
+                }
+                int childSignature = TablebaseIndex.signatureOf(white, black, kings);
+                int childIndex = (int) TablebaseIndex.index(white, black, kings);
+                if (childSignature == pair[0] || childSignature == pair[pair.length - 1]) {
+                    state.addChild(childSignature == pair[0] ? 0 : 1, childIndex);
+                    continue;
+                }
+
+                byte child = tables[childSignature][childIndex];
+                if (child < 0) {
+                    shortestLoss = Math.min(shortestLoss, EndgameTablebase.distance(child));
+                } else if (child == 0) {
+                    longestWin = HAS_DRAW;
+                } else if (longestWin != HAS_DRAW) {
+                    longestWin = Math.max(longestWin, EndgameTablebase.distance(child));
+                }
+            }
+            state.shortestLoss[index] = (byte) shortestLoss;
+            state.longestWin[index] = (byte) longestWin;
+        }
+        state.childStart[table.length] = state.childCount;
+    }
+
+    // Один прохід ретроградного аналізу; true, якщо визначено хоча б одну позицію
+    private boolean resolvePass(int[] pair, PairState state, int slot, int pass) {
+        byte[] table = tables[pair[slot]];
+        boolean changed = false;
+
+        for (int index = 0; index < table.length; index++) {
+            if (table[index] != UNKNOWN) {
+                continue;
+            }
+
+            int shortestLoss = state.shortestLoss[index];
+            int longestWin = state.longestWin[index];
+            boolean allWins = longestWin != HAS_DRAW && shortestLoss == NONE;
+            for (int i = state.childStart[index]; i < state.childStart[index + 1]; i++) {
+                int child = state.children[i];
+                byte value = tables[pair[child >>> SLOT_SHIFT]][child & INDEX_MASK];
+                if (value == UNKNOWN || value == 0) {
+                    allWins = false;
+                } else if (value < 0) {
+                    allWins = false;
+                    shortestLoss = Math.min(shortestLoss, EndgameTablebase.distance(value));
+                } else {
+                    longestWin = Math.max(longestWin, EndgameTablebase.distance(value));
+                }
+            }
+
+            // Порівняння "не пізніше ніж за pass-1" враховує насичення відстаней у байті
+            if (shortestLoss <= pass - 1) {
+                table[index] = EndgameTablebase.winValue(shortestLoss + 1);
+                changed = true;
+            } else if (allWins && longestWin <= pass - 1) {
+                table[index] = EndgameTablebase.lossValue(longestWin + 1);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // Розставити позицію за індексом; false для неможливої розстановки
+    private boolean load(int signature, long index) {
+        int[] position = TablebaseIndex.position(signature, index);
+        if (position == null) {
+            return false;
+        }
+        board.setPosition(position[0], position[1], position[2], Piece.Color.WHITE);
+        return true;
+    }
+
+    // Записати базу у файл: заголовок, каталог сигнатур, дані
+    public void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Не вдалося створити каталог " + parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(EndgameTablebase.MAGIC);
+            out.writeInt(EndgameTablebase.VERSION);
+            out.writeInt(maxPieces);
+            out.writeInt(order.size());
+
+            long offset = EndgameTablebase.HEADER_BYTES + (long) order.size() * EndgameTablebase.DIRECTORY_ENTRY_BYTES;
+            for (int signature : order) {
+                out.writeInt(signature);
+                out.writeLong(offset);
+                out.writeInt(tables[signature].length);
+                offset += tables[signature].length;
+            }
+            for (int signature : order) {
+                out.write(tables[signature]);
+            }
+        }
+    }
+
+    // Кешовані ходи позицій однієї таблиці пари
+    private static class PairState {
+        // Найкоротший програш і найдовший виграш суперника серед ходів у готові таблиці
+        final byte[] shortestLoss;
+        final byte[] longestWin;
+
+        // Дочірні позиції всередині пари (CSR): діти позиції i - children[childStart[i]..childStart[i + 1])
+        final int[] childStart;
+        int[] children = new int[1024];
+        int childCount;
+
+        PairState(int size) {
+            shortestLoss = new byte[size];
+            longestWin = new byte[size];
+            childStart = new int[size + 1];
+        }
+
+        void addChild(int slot, int index) {
+            if (childCount == children.length) {
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            children[childCount++] = (slot << SLOT_SHIFT) | index;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.checkers.ai;
+
+// Індексація позицій ендшпільної бази. Позиція завжди нормалізована так, що ходять білі
+// (для ходу чорних дошка повертається на 180° зі зміною кольорів).
+// Сигнатура - кількість шашок і дамок кожної сторони; у межах сигнатури індекс будується
+// з комбінаторних номерів (combinadic) розстановок: білі шашки, чорні шашки, білі дамки, чорні дамки.
+class TablebaseIndex {
+    // Максимальна кількість шашок однієї групи в сигнатурі (3 біти)
+    static final int MAX_GROUP = 7;
+
+    // Кількість можливих сигнатур (4 групи по 3 біти)
+    static final int SIGNATURES = 1 << 12;
+
+    // Звичайні шашки не стоять на рядку перетворення: білі - на клітинках 0-27, чорні - 4-31
+    private static final int MAN_SQUARES = 28;
+    private static final int BLACK_MAN_BASE = 4;
+
+    // Біноміальні коефіцієнти C(n, k) для n <= 32, k <= MAX_GROUP
+    private static final long[][] BINOMIAL = new long[33][MAX_GROUP + 1];
+
+    static {
+        for (int n = 0; n <= 32; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= MAX_GROUP && k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+    }
+
+    private TablebaseIndex() {
+    }
+
+    // Сигнатура з кількостей: білі шашки, білі дамки, чорні шашки, чорні дамки
+    static int signature(int whiteMen, int whiteKings, int blackMen, int blackKings) {
+        return whiteMen | (whiteKings << 3) | (blackMen << 6) | (blackKings << 9);
+    }
+
+    // Сигнатура нормалізованої позиції
+    static int signatureOf(int white, int black, int kings) {
+        return signature(Integer.bitCount(white & ~kings), Integer.bitCount(white & kings),
+                Integer.bitCount(black & ~kings), Integer.bitCount(black & kings));
+    }
+
+    static int whiteMen(int signature) {
+        return signature & MAX_GROUP;
+    }
+
+    static int whiteKings(int signature) {
+        return (signature >>> 3) & MAX_GROUP;
+    }
+
+    static int blackMen(int signature) {
+        return (signature >>> 6) & MAX_GROUP;
+    }
+
+    static int blackKings(int signature) {
+        return (signature >>> 9) & MAX_GROUP;
+    }
+
+    // Загальна кількість шашок сигнатури
+    static int pieceCount(int signature) {
+        return whiteMen(signature) + whiteKings(signature) + blackMen(signature) + blackKings(signature);
+    }
+
+    // Сигнатура позиції після зміни сторін (ходить суперник)
+    static int mirror(int signature) {
+        return signature(blackMen(signature), blackKings(signature), whiteMen(signature), whiteKings(signature));
+    }
+
+    // Кількість індексів сигнатури (частина з них - неможливі позиції з накладанням шашок)
+    static long size(int signature) {
+        int wm = whiteMen(signature);
+        int bm = blackMen(signature);
+        int wk = whiteKings(signature);
+        int free = Math.max(32 - wm - bm, 0);
+        return BINOMIAL[MAN_SQUARES][wm] * BINOMIAL[MAN_SQUARES][bm]
+                * BINOMIAL[free][wk] * BINOMIAL[Math.max(free - wk, 0)][blackKings(signature)];
+    }
+
+    // Нормалізація: маски, у яких ходять "білі" (кольори міняються, дошка повертається)
+    static int rotate(int mask) {
+        return Integer.reverse(mask);
+    }
+
+    // Індекс нормалізованої позиції в межах її сигнатури
+    static long index(int white, int black, int kings) {
+        int whiteMen = white & ~kings;
+        int blackMen = black & ~kings;
+        int whiteKings = white & kings;
+        int blackKings = black & kings;
+        int wk = Integer.bitCount(whiteKings);
+        int free = 32 - Integer.bitCount(whiteMen) - Integer.bitCount(blackMen);
+
+        long index = rank(whiteMen, 0);
+        index = index * BINOMIAL[MAN_SQUARES][Integer.bitCount(blackMen)] + rank(blackMen >>> BLACK_MAN_BASE, 0);
+        index = index * BINOMIAL[free][wk] + rank(whiteKings, whiteMen | blackMen);
+        index = index * BINOMIAL[free - wk][Integer.bitCount(blackKings)]
+                + rank(blackKings, whiteMen | blackMen | whiteKings);
+        return index;
+    }
+
+    // Позиція за індексом: {білі, чорні, дамки} або null для неможливої розстановки
+    static int[] position(int signature, long index) {
+        int wm = whiteMen(signature);
+        int bm = blackMen(signature);
+        int wk = whiteKings(signature);
+        int bk = blackKings(signature);
+        int free = 32 - wm - bm;
+
+        long bkCount = BINOMIAL[free - wk][bk];
+        long bkRank = index % bkCount;
+        index /= bkCount;
+        long wkCount = BINOMIAL[free][wk];
+        long wkRank = index % wkCount;
+        index /= wkCount;
+        long bmCount = BINOMIAL[MAN_SQUARES][bm];
+        long bmRank = index % bmCount;
+        long wmRank = index / bmCount;
+
+        int whiteMen = unrank(wmRank, wm, 0);
+        int blackMen = unrank(bmRank, bm, 0) << BLACK_MAN_BASE;
+        if ((whiteMen & blackMen) != 0) {
+            return null;
+        }
+        int whiteKings = unrank(wkRank, wk, whiteMen | blackMen);
+        int blackKings = unrank(bkRank, bk, whiteMen | blackMen | whiteKings);
+        return new int[]{whiteMen | whiteKings, blackMen | blackKings, whiteKings | blackKings};
+    }
+
+    // Номер комбінації (colex) клітинок маски серед клітинок, не зайнятих occupied
+    private static long rank(int mask, int occupied) {
+        long rank = 0;
+        int i = 0;
+        while (mask != 0) {
+            int square = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int squeezed = square - Integer.bitCount(occupied & ((1 << square) - 1));
+            rank += BINOMIAL[squeezed][++i];
+        }
+        return rank;
+    }
+
+    // Маска за номером комбінації з count клітинок серед вільних від occupied
+    private static int unrank(long rank, int count, int occupied) {
+        int mask = 0;
+        int limit = 32;
+        for (int i = count; i > 0; i--) {
+            int squeezed = i - 1;
+            while (squeezed + 1 < limit && BINOMIAL[squeezed + 1][i] <= rank) {
+                squeezed++;
+            }
+            rank -= BINOMIAL[squeezed][i];
+            limit = squeezed;
+            mask |= 1 << nthFree(occupied, squeezed);
+        }
+        return mask;
+    }
+
+    // Номер n-ї (з нуля) вільної клітинки
+    private static int nthFree(int occupied, int n) {
+        int free = ~occupied;
+        for (int i = 0; i < n; i++) {
+            free &= free - 1;
+        }
+        return Integer.numberOfTrailingZeros(free);
+    }
+}
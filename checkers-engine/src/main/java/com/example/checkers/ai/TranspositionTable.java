@@ -0,0 +1,169 @@
+package com.example.checkers.ai;
+
+import java.util.Arrays;
+
+// Таблиця транспозицій у пласкому масиві long[] без об'єктів на запис.
+// Кожен запис - два long: (ключ XOR дані, дані). Потік, що прочитав "розірваний" запис,
+// просто не пройде перевірку XOR, тому таблицю можна ділити між потоками без блокувань.
+public class TranspositionTable {
+    // Типи меж оцінки (0 означає порожній запис)
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    // Розмір одного запису в байтах і кількість записів у кошику
+    private static final int ENTRY_BYTES = 16;
+    private static final int BUCKET_ENTRIES = 2;
+
+    // Розкладка даних: хід (0-10), оцінка (11-31, зі знаком), глибина (32-39), межа (40-41), вік (42-49)
+    private static final int MOVE_BITS = 11;
+    private static final long MOVE_MASK = (1L << MOVE_BITS) - 1;
+    private static final int SCORE_SHIFT = 11;
+    private static final long SCORE_MASK = (1L << 21) - 1;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int AGE_SHIFT = 42;
+
+    private final long[] table;
+    private final long bucketMask;
+    private final int sizeMb;
+    private int age;
+
+    // Лічильники статистики (без синхронізації: при паралельному пошуку значення приблизні)
+    private long probes;
+    private long hits;
+    private long collisions;
+    private long stores;
+
+    // Конструктор з бюджетом пам'яті в мегабайтах
+    public TranspositionTable(int sizeMb) {
+        if (sizeMb < 1) {
+            throw new IllegalArgumentException("Розмір таблиці має бути щонайменше 1 МБ");
+        }
+        this.sizeMb = sizeMb;
+
+        // Кількість кошиків - найбільша степінь двійки, що вміщується в бюджет
+        long buckets = Long.highestOneBit((long) sizeMb * 1024 * 1024 / (ENTRY_BYTES * BUCKET_ENTRIES));
+        this.table = new long[(int) (buckets * BUCKET_ENTRIES * 2)];
+        this.bucketMask = buckets - 1;
+    }
+
+    // Пошук запису; повертає запаковані дані або 0, якщо записів для ключа немає
+    public long probe(long key) {
+        probes++;
+        int index = bucketIndex(key);
+        for (int slot = 0; slot < BUCKET_ENTRIES; slot++) {
+            int i = index + slot * 2;
+            long data = table[i + 1];
+            if (data != 0) {
+                if ((table[i] ^ data) == key) {
+                    hits++;
+                    return data;
+                }
+                collisions++;
+            }
+        }
+        return 0;
+    }
+
+    // Зберегти результат пошуку вузла
+    public void store(long key, int move, int score, int depth, int bound) {
+        stores++;
+        long data = (move & MOVE_MASK)
+                | ((score & SCORE_MASK) << SCORE_SHIFT)
+                | ((long) (Math.max(depth, 0) & 0xFF) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) (age & 0xFF) << AGE_SHIFT);
+
+        int index = bucketIndex(key);
+
+        // Перший слот зберігає найглибший результат поточного пошуку, другий - завжди замінюється
+        long old = table[index + 1];
+        boolean sameKey = (table[index] ^ old) == key;
+        if (old == 0 || sameKey || age(old) != (age & 0xFF) || depth >= depth(old)) {
+            if (sameKey && move == 0) {
+                data |= old & MOVE_MASK; // Не втрачаємо відомий найкращий хід
+            }
+            table[index] = key ^ data;
+            table[index + 1] = data;
+        } else {
+            table[index + 2] = key ^ data;
+            table[index + 3] = data;
+        }
+    }
+
+    // Початок нового пошуку: старіші записи стають кандидатами на заміну
+    public void newSearch() {
+        age++;
+    }
+
+    // Очистити таблицю
+    public void clear() {
+        Arrays.fill(table, 0L);
+        age = 0;
+        probes = 0;
+        hits = 0;
+        collisions = 0;
+        stores = 0;
+    }
+
+    // Індекс першого long кошика
+    private int bucketIndex(long key) {
+        return (int) (key & bucketMask) * BUCKET_ENTRIES * 2;
+    }
+
+    // Найкращий хід із запису
+    public static int move(long data) {
+        return (int) (data & MOVE_MASK);
+    }
+
+    // Оцінка із запису
+    public static int score(long data) {
+        return (int) data >> SCORE_SHIFT;
+    }
+
+    // Глибина із запису
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    // Тип межі із запису
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    // Вік запису
+    private static int age(long data) {
+        return (int) (data >>> AGE_SHIFT) & 0xFF;
+    }
+
+    // Бюджет пам'яті таблиці
+    public int getSizeMb() {
+        return sizeMb;
+    }
+
+    // Кількість записів у таблиці
+    public int getCapacity() {
+        return table.length / 2;
+    }
+
+    // Кількість звернень
+    public long getProbes() {
+        return probes;
+    }
+
+    // Кількість влучань
+    public long getHits() {
+        return hits;
+    }
+
+    // Кількість зайнятих записів з іншим ключем
+    public long getCollisions() {
+        return collisions;
+    }
+
+    // Кількість записів
+    public long getStores() {
+        return stores;
+    }
+}
@@ -0,0 +1,589 @@
+package com.example.checkers.controller;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Player;
+import com.example.checkers.utils.DrawRules;
+import com.example.checkers.utils.GameRules;
+import com.example.checkers.utils.MoveGenerator;
+import com.example.checkers.utils.MoveValidator;
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.SearchListener;
+import com.example.checkers.ai.SearchProgress;
+import com.example.checkers.ai.SearchStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class GameController {
+    private Board board;
+    private final Player humanPlayer;
+    private final ComputerPlayer computerPlayer;
+    private Player currentPlayer;
+    private GameState gameState;
+
+    // Журнал ходів партії (по байту на хід) і буфер легальних ходів для нього
+    private GameRecord record;
+    private final MoveList legalMoves = new MoveList();
+
+    // Легальні ходи людини в поточній позиції - рахуються раз за хід (у хід комп'ютера кеш порожній).
+    // UI підсвічує цілі з кешу, а хід людини перевіряється належністю до нього
+    private final MoveList turnMoves = new MoveList();
+    private final int[] turnTargets = new int[Board.SQUARES];
+    private int movableSquares;
+
+    // Правила нічиєї
+    private DrawRules drawRules = DrawRules.STANDARD;
+
+    // Окремий потік для пошуку ходу комп'ютера
+    private final ExecutorService engineExecutor;
+
+    // Куди доставляються результати пошуку (на Android - головний потік)
+    private final Executor callbackExecutor;
+
+    // Поточний пошук і його покоління: застарілі результати відкидаються
+    private Future<?> pendingSearch;
+    private volatile int searchGeneration;
+
+    // Пондеринг (поля змінюються лише в потоці callbackExecutor): передбачений хід людини, ключ позиції
+    // після нього (0 - пондерингу немає), готовий результат і колбек, заданий при влучанні
+    private boolean ponderingEnabled;
+    private int ponderMove;
+    private long ponderKey;
+    private boolean ponderDone;
+    private AIStrategy.Move ponderResult;
+    private ComputerMoveCallback ponderCallback;
+
+    // Слухач виконаних ходів (UI перемальовує лише змінені клітинки)
+    private MoveListener moveListener;
+
+    // Колбек асинхронного ходу комп'ютера (викликається через callbackExecutor)
+    public interface ComputerMoveCallback {
+        // Прогрес пошуку: глибина, оцінка, головний варіант
+        void onSearchProgress(SearchProgress progress);
+
+        // Пошук завершено, хід виконано (або ходів немає)
+        void onComputerMoveFinished(boolean moveMade);
+    }
+
+    // Слухач ходів обох гравців; викликається в потоці, де хід виконано (колбеки - через callbackExecutor)
+    public interface MoveListener {
+        void onMoveMade(MoveEvent event);
+    }
+
+    // Enum для станів гри
+    public enum GameState {
+        NOT_STARTED,
+        IN_PROGRESS,
+        HUMAN_WON,
+        COMPUTER_WON,
+        DRAW
+    }
+
+    // Конструктор
+    public GameController(Player humanPlayer, ComputerPlayer computerPlayer) {
+        this(humanPlayer, computerPlayer, Runnable::run);
+    }
+
+    // Конструктор з виконавцем для колбеків асинхронного пошуку
+    public GameController(Player humanPlayer, ComputerPlayer computerPlayer, Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        this.engineExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkers-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.board = new Board();
+        this.humanPlayer = humanPlayer;
+        this.computerPlayer = computerPlayer;
+        this.currentPlayer = humanPlayer; // Людина завжди ходить першою
+        this.gameState = GameState.NOT_STARTED;
+        this.record = new GameRecord(board);
+    }
+
+    // Запуск гри
+    public void startGame() {
+        cancelComputerMove();
+        board = new Board(); // Скидаємо дошку
+        currentPlayer = humanPlayer;
+        board.setSideToMove(currentPlayer.getColor());
+        record.reset(board);
+        gameState = GameState.IN_PROGRESS;
+        refreshLegalMoves();
+    }
+
+    // Обробка ходу гравця (з кількох ланцюжків між тими самими клітинками обирається найдовший)
+    public boolean processPlayerMove(int fromRow, int fromCol, int toRow, int toCol) {
+        return processPlayerMove(fromRow, fromCol, toRow, toCol, MoveValidator.ANY_CAPTURED);
+    }
+
+    // Обробка ходу гравця конкретним ланцюжком взяття (маска взятих шашок)
+    public boolean processPlayerMove(int fromRow, int fromCol, int toRow, int toCol, int captured) {
+        // Перевірка, чи гра в процесі
+        if (gameState != GameState.IN_PROGRESS) {
+            return false;
+        }
+
+        // Перевірка валідності ходу за кешем легальних ходів
+        if (!isLegalMove(fromRow, fromCol, toRow, toCol, captured)) {
+            return false;
+        }
+
+        // Виконання ходу (через Board.makeMove, тож його можна скасувати)
+        boolean moveSuccess = captured == MoveValidator.ANY_CAPTURED
+                ? currentPlayer.makeMove(board, fromRow, fromCol, toRow, toCol)
+                : currentPlayer.makeMove(board, fromRow, fromCol, toRow, toCol, captured);
+
+        if (moveSuccess) {
+            record.add(currentPlayer.getLastMoveIndex());
+
+            // Перевірка перемоги
+            updateGameState();
+
+            // Зміна поточного гравця
+            switchPlayer();
+            refreshLegalMoves();
+
+            publishMove();
+            return true;
+        }
+
+        return false;
+    }
+
+    // Хід комп'ютера
+    public void processComputerMove() {
+        // Логіка ходу комп'ютера
+        if (currentPlayer == computerPlayer && gameState == GameState.IN_PROGRESS) {
+            // Викликаємо AI стратегію комп'ютера
+            boolean moveSuccess = computerPlayer.makeMove(board, 0, 0, 0, 0);
+
+            if (moveSuccess) {
+                record.add(computerPlayer.getLastMoveIndex());
+                updateGameState();
+                switchPlayer();
+                refreshLegalMoves();
+                publishMove();
+            }
+        }
+    }
+
+    // Асинхронний хід комп'ютера: пошук на копії дошки у фоновому потоці
+    public boolean requestComputerMove(ComputerMoveCallback callback) {
+        if (currentPlayer != computerPlayer || gameState != GameState.IN_PROGRESS) {
+            return false;
+        }
+
+        // Людина зіграла передбачений хід - пондеринг продовжується як звичайний пошук
+        if (ponderKey != 0 && ponderKey == board.getZobristKey()) {
+            return ponderHit(callback);
+        }
+
+        // Промах (або пондерингу не було): новий пошук; таблиця транспозицій зберігає напрацьоване
+        cancelComputerMove();
+        final int generation = searchGeneration;
+        final Board snapshot = new Board(board);
+        final AIStrategy strategy = computerPlayer.getStrategy();
+
+        strategy.setSearchListener(progressListener(generation, callback));
+
+        // Токен береться до постановки в чергу: скасування до старту пошуку не губиться
+        final long stopToken = strategy.stopToken();
+        pendingSearch = engineExecutor.submit(() -> {
+            AIStrategy.Move move = computerPlayer.chooseMove(snapshot, stopToken);
+            callbackExecutor.execute(() -> finishComputerMove(generation, move, callback));
+        });
+        return true;
+    }
+
+    // Прогрес пошуку для колбеку (застарілі покоління відкидаються)
+    private SearchListener progressListener(int generation, ComputerMoveCallback callback) {
+        return progress -> callbackExecutor.execute(() -> {
+            if (generation == searchGeneration) {
+                callback.onSearchProgress(progress);
+            }
+        });
+    }
+
+    // Виконати знайдений хід комп'ютера (у потоці callbackExecutor)
+    private void finishComputerMove(int generation, AIStrategy.Move move, ComputerMoveCallback callback) {
+        // Пошук скасовано або гру перезапущено - результат ігноруємо
+        if (generation != searchGeneration) {
+            return;
+        }
+        pendingSearch = null;
+        ponderCallback = null;
+
+        boolean moveSuccess = computerPlayer.applyMove(board, move);
+        if (moveSuccess) {
+            record.add(computerPlayer.getLastMoveIndex());
+            updateGameState();
+            switchPlayer();
+            refreshLegalMoves();
+            publishMove();
+        }
+        callback.onComputerMoveFinished(moveSuccess);
+
+        if (moveSuccess) {
+            startPondering();
+        }
+    }
+
+    // Почати пондеринг: пошук відповіді на передбачений хід людини, поки вона думає
+    private void startPondering() {
+        AIStrategy strategy = computerPlayer.getStrategy();
+        if (!ponderingEnabled || !(strategy instanceof SearchStrategy)
+                || currentPlayer != humanPlayer || gameState != GameState.IN_PROGRESS) {
+            return;
+        }
+        int index = ((SearchStrategy) strategy).predictMove(board, legalMoves);
+        if (index < 0) {
+            return;
+        }
+
+        final int generation = searchGeneration;
+        final Board snapshot = new Board(board);
+        snapshot.makeMove(legalMoves.getMove(index), legalMoves.getCaptured(index));
+        ponderMove = legalMoves.getMove(index);
+        ponderKey = snapshot.getZobristKey();
+        ponderDone = false;
+
+        // Прогрес пондерингу не показується: людина ще думає
+        strategy.setSearchListener(null);
+        strategy.setPondering(true);
+
+        final long stopToken = strategy.stopToken();
+        pendingSearch = engineExecutor.submit(() -> {
+            AIStrategy.Move move = computerPlayer.chooseMove(snapshot, stopToken);
+            callbackExecutor.execute(() -> {
+                if (generation != searchGeneration) {
+                    return;
+                }
+                if (ponderCallback != null) {
+                    // Влучання вже сталося - хід виконується одразу
+                    finishComputerMove(generation, move, ponderCallback);
+                } else {
+                    // Людина ще думає - результат чекає на її хід
+                    ponderDone = true;
+                    ponderResult = move;
+                }
+            });
+        });
+    }
+
+    // Влучання пондерингу: ліміт часу знову діє (відлік від початку пондерингу), прогрес іде в колбек
+    private boolean ponderHit(ComputerMoveCallback callback) {
+        final int generation = searchGeneration;
+        AIStrategy strategy = computerPlayer.getStrategy();
+        ponderKey = 0;
+        ponderCallback = callback;
+        strategy.setSearchListener(progressListener(generation, callback));
+        strategy.setPondering(false);
+
+        if (ponderDone) {
+            AIStrategy.Move move = ponderResult;
+            ponderResult = null;
+            callbackExecutor.execute(() -> finishComputerMove(generation, move, callback));
+        }
+        return true;
+    }
+
+    // Скасувати пошук, що виконується (нова гра, здача)
+    public void cancelComputerMove() {
+        searchGeneration++;
+        ponderKey = 0;
+        ponderDone = false;
+        ponderResult = null;
+        ponderCallback = null;
+        AIStrategy strategy = computerPlayer.getStrategy();
+        if (strategy != null) {
+            strategy.stop();
+            strategy.setPondering(false);
+        }
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    // Увімкнути пондеринг: після ходу комп'ютера пошук триває на час людини. Вимикається, коли
+    // застосунок на паузі; після ввімкнення в хід людини пондеринг починається знову
+    public void setPonderingEnabled(boolean ponderingEnabled) {
+        this.ponderingEnabled = ponderingEnabled;
+        if (!ponderingEnabled && ponderKey != 0) {
+            cancelComputerMove();
+        } else if (ponderingEnabled && ponderKey == 0 && pendingSearch == null) {
+            startPondering();
+        }
+    }
+
+    // Чи аналізує комп'ютер передбачений хід людини
+    public boolean isPondering() {
+        return ponderKey != 0;
+    }
+
+    // Передбачений хід людини (запакований, як у MoveList) або -1, якщо пондерингу немає
+    public int getPonderMove() {
+        return ponderKey != 0 ? ponderMove : -1;
+    }
+
+    // Чи думає зараз комп'ютер над своїм ходом (пондеринг на час людини не рахується)
+    public boolean isComputerThinking() {
+        return pendingSearch != null && ponderKey == 0;
+    }
+
+    // Зупинити потік пошуку (при знищенні Activity)
+    public void shutdown() {
+        cancelComputerMove();
+        engineExecutor.shutdownNow();
+    }
+
+    // Оновлення стану гри
+    private void updateGameState() {
+        // Сторона, що ходить, без шашок або без ходів програє (перевірка на бітових масках)
+        Piece.Color side = board.getSideToMove();
+        if (!MoveGenerator.hasMoves(board, side)) {
+            gameState = side == humanPlayer.getColor() ? GameState.COMPUTER_WON : GameState.HUMAN_WON;
+            return;
+        }
+
+        // Нічия за повторенням або ходами без прогресу (лічильники веде Board, O(1))
+        if (GameRules.isDrawCondition(board, drawRules)) {
+            gameState = GameState.DRAW;
+        }
+    }
+
+    // Зміна поточного гравця
+    private void switchPlayer() {
+        currentPlayer = (currentPlayer == humanPlayer)
+                ? computerPlayer
+                : humanPlayer;
+        board.setSideToMove(currentPlayer.getColor());
+    }
+
+    // Перерахувати кеш легальних ходів для нової позиції (поза грою і в хід комп'ютера ходів немає)
+    private void refreshLegalMoves() {
+        movableSquares = 0;
+        Arrays.fill(turnTargets, 0);
+        if (gameState != GameState.IN_PROGRESS || currentPlayer == computerPlayer) {
+            turnMoves.clear();
+            return;
+        }
+        MoveGenerator.generateMoves(board, currentPlayer.getColor(), turnMoves);
+        for (int i = 0; i < turnMoves.size(); i++) {
+            int move = turnMoves.getMove(i);
+            movableSquares |= 1 << MoveList.from(move);
+            turnTargets[MoveList.from(move)] |= 1 << MoveList.to(move);
+        }
+    }
+
+    // Маска клітинок з шашками, якими можна ходити (біт на клітинку Board)
+    public int getMovableSquares() {
+        return movableSquares;
+    }
+
+    // Маска клітинок, куди може піти шашка з клітинки (row, col)
+    public int getLegalTargets(int row, int col) {
+        int from = Board.toSquare(row, col);
+        return from < 0 ? 0 : turnTargets[from];
+    }
+
+    // Чи є хід серед легальних ходів поточної позиції
+    public boolean isLegalMove(int fromRow, int fromCol, int toRow, int toCol) {
+        int to = Board.toSquare(toRow, toCol);
+        return to >= 0 && (getLegalTargets(fromRow, fromCol) & (1 << to)) != 0;
+    }
+
+    // Чи є серед легальних ходів ланцюжок з точно такою маскою взятих шашок
+    public boolean isLegalMove(int fromRow, int fromCol, int toRow, int toCol, int captured) {
+        if (captured == MoveValidator.ANY_CAPTURED) {
+            return isLegalMove(fromRow, fromCol, toRow, toCol);
+        }
+        return getLegalChains(fromRow, fromCol, toRow, toCol, null, captured) > 0;
+    }
+
+    // Маски взятих шашок усіх легальних ходів з клітинки на клітинку (кілька - якщо ланцюжки різні);
+    // буфер розміром до MoveList.CAPACITY, повертається кількість
+    public int getLegalChains(int fromRow, int fromCol, int toRow, int toCol, int[] capturedMasks) {
+        return getLegalChains(fromRow, fromCol, toRow, toCol, capturedMasks, MoveValidator.ANY_CAPTURED);
+    }
+
+    private int getLegalChains(int fromRow, int fromCol, int toRow, int toCol, int[] capturedMasks, int captured) {
+        int from = Board.toSquare(fromRow, fromCol);
+        int to = Board.toSquare(toRow, toCol);
+        int count = 0;
+        for (int i = 0; i < turnMoves.size() && from >= 0 && to >= 0; i++) {
+            int move = turnMoves.getMove(i);
+            if (MoveList.from(move) != from || MoveList.to(move) != to
+                    || (captured != MoveValidator.ANY_CAPTURED && turnMoves.getCaptured(i) != captured)) {
+                continue;
+            }
+            if (capturedMasks != null) {
+                capturedMasks[count] = turnMoves.getCaptured(i);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // Повідомити слухача про щойно виконаний хід
+    private void publishMove() {
+        if (moveListener != null) {
+            moveListener.onMoveMade(MoveEvent.lastMove(board));
+        }
+    }
+
+    // Задати слухача ходів
+    public void setMoveListener(MoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    // Getter для поточного стану гри
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    // Getter для поточного гравця
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    // Getter для ігрової дошки
+    public Board getBoard() {
+        return board;
+    }
+
+    // Завершення гри
+    public void endGame() {
+        cancelComputerMove();
+        gameState = GameState.NOT_STARTED;
+        board = new Board();
+        record.reset(board);
+        refreshLegalMoves();
+    }
+
+    // Закодувати партію для збереження (журнал ходів і знімок позиції)
+    public byte[] saveGame() {
+        return record.toBytes(board, gameState);
+    }
+
+    // Відновити збережену партію без участі UI: позиція відтворюється з журналу або знімка
+    public void restoreGame(byte[] data) {
+        cancelComputerMove();
+        Board restored = new Board();
+        record = GameRecord.fromBytes(data, restored);
+        board = restored;
+        onHistoryChanged(record.getSavedState());
+    }
+
+    // Скасувати останній хід людини разом з відповіддю комп'ютера (або пошук, що триває)
+    public boolean undoMove() {
+        if (gameState == GameState.NOT_STARTED || record.size() == 0) {
+            return false;
+        }
+        cancelComputerMove();
+        do {
+            board.unmakeMove();
+            record.undo();
+        } while (record.size() > 0 && board.getSideToMove() != humanPlayer.getColor());
+        onHistoryChanged(GameState.IN_PROGRESS);
+        return true;
+    }
+
+    // Повторити скасовані ходи до наступного ходу людини
+    public boolean redoMove() {
+        if (gameState == GameState.NOT_STARTED || !record.canRedo()) {
+            return false;
+        }
+        cancelComputerMove();
+        do {
+            MoveGenerator.generateMoves(board, board.getSideToMove(), legalMoves);
+            int index = record.redo();
+            board.makeMove(legalMoves.getMove(index), legalMoves.getCaptured(index));
+        } while (record.canRedo() && board.getSideToMove() != humanPlayer.getColor());
+        onHistoryChanged(GameState.IN_PROGRESS);
+        return true;
+    }
+
+    // Чи є що скасувати / повторити
+    public boolean canUndo() {
+        return gameState != GameState.NOT_STARTED && record.size() > 0;
+    }
+
+    public boolean canRedo() {
+        return gameState != GameState.NOT_STARTED && record.canRedo();
+    }
+
+    // Позиція змінилась не звичайним ходом (відновлення, скасування, повтор); для гри в процесі
+    // результат перераховується за позицією, інші стани (гру не почато) зберігаються як є
+    private void onHistoryChanged(GameState state) {
+        currentPlayer = board.getSideToMove() == humanPlayer.getColor() ? humanPlayer : computerPlayer;
+
+        // Кількість взятих шашок - різниця з початковою позицією запису
+        humanPlayer.setCapturedPieces(record.getStartPieceCount(computerPlayer.getColor())
+                - board.countPieces(computerPlayer.getColor()));
+        computerPlayer.setCapturedPieces(record.getStartPieceCount(humanPlayer.getColor())
+                - board.countPieces(humanPlayer.getColor()));
+
+        gameState = state;
+        if (gameState == GameState.IN_PROGRESS) {
+            updateGameState();
+        }
+        refreshLegalMoves();
+    }
+
+    // Задати правила нічиєї (і для пошуку комп'ютера)
+    public void setDrawRules(DrawRules drawRules) {
+        this.drawRules = drawRules;
+        if (computerPlayer.getStrategy() instanceof SearchStrategy) {
+            ((SearchStrategy) computerPlayer.getStrategy()).setDrawRules(drawRules);
+        }
+    }
+
+    // Getter для запису партії
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    // Отримати статистику гри
+    public GameStatistics getGameStatistics() {
+        return new GameStatistics(
+                humanPlayer.getCapturedPieces(),
+                computerPlayer.getCapturedPieces(),
+                gameState
+        );
+    }
+
+    // Внутрішній клас для статистики гри
+    public static class GameStatistics {
+        private final int humanCapturedPieces;
+        private final int computerCapturedPieces;
+        private final GameState finalGameState;
+
+        public GameStatistics(int humanCapturedPieces,
+                              int computerCapturedPieces,
+                              GameState finalGameState) {
+            this.humanCapturedPieces = humanCapturedPieces;
+            this.computerCapturedPieces = computerCapturedPieces;
+            this.finalGameState = finalGameState;
+        }
+
+        // Getters
+        public int getHumanCapturedPieces() {
+            return humanCapturedPieces;
+        }
+
+        public int getComputerCapturedPieces() {
+            return computerCapturedPieces;
+        }
+
+        public GameState getFinalGameState() {
+            return finalGameState;
+        }
+    }
+}
\ No newline at end of file
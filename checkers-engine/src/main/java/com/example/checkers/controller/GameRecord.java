@@ -0,0 +1,219 @@
+package com.example.checkers.controller;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Запис партії: початкова позиція і журнал ходів по одному байту на хід
+// (індекс ходу в списку легальних ходів MoveGenerator - порядок генерації детермінований).
+// Двійковий формат: "CKGR", версія, стан гри, знімки початкової і поточної позиції, кількість ходів, ходи.
+public class GameRecord {
+    static final int MAGIC = 0x434B4752;
+    static final int VERSION = 2;
+
+    // Версія 1 не зберігала стан гри - такі записи відновлюються як гра в процесі
+    private static final int VERSION_WITHOUT_STATE = 1;
+
+    // Знімок дошки: маски білих, чорних і дамок по 4 байти та сторона, що ходить
+    public static final int SNAPSHOT_BYTES = 13;
+
+    private static final int HEADER_BYTES = 8;
+    private static final int STATE_BYTES = 1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Початкова позиція
+    private int startWhite;
+    private int startBlack;
+    private int startKings;
+    private Piece.Color startSide;
+
+    // Кількість шашок на початку партії (після відновлення зі знімка початкова позиція запису інша)
+    private int startWhiteCount;
+    private int startBlackCount;
+
+    // Журнал ходів; ходи від size до redoLimit скасовані, але доступні для повтору
+    private byte[] moves = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int redoLimit;
+
+    // Стан гри, з яким запис було збережено (для нових записів - гра в процесі)
+    private GameController.GameState savedState = GameController.GameState.IN_PROGRESS;
+
+    // Запис партії, що починається з позиції дошки
+    public GameRecord(Board start) {
+        reset(start);
+    }
+
+    // Почати запис заново з позиції дошки
+    public void reset(Board start) {
+        startWhite = start.getWhitePieces();
+        startBlack = start.getBlackPieces();
+        startKings = start.getKings();
+        startSide = start.getSideToMove();
+        startWhiteCount = Integer.bitCount(startWhite);
+        startBlackCount = Integer.bitCount(startBlack);
+        size = 0;
+        redoLimit = 0;
+    }
+
+    // Додати хід за його індексом у списку легальних ходів
+    public void add(int legalMoveIndex) {
+        if (legalMoveIndex < 0 || legalMoveIndex >= MoveList.CAPACITY) {
+            throw new IllegalArgumentException("Некоректний індекс ходу: " + legalMoveIndex);
+        }
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = (byte) legalMoveIndex;
+        redoLimit = size;
+    }
+
+    // Скасувати останній хід; повертає його індекс
+    public int undo() {
+        int index = moveAt(size - 1);
+        size--;
+        return index;
+    }
+
+    // Чи є скасований хід для повтору
+    public boolean canRedo() {
+        return size < redoLimit;
+    }
+
+    // Повернути скасований хід; повертає його індекс
+    public int redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("Немає ходу для повтору");
+        }
+        return moves[size++] & 0xFF;
+    }
+
+    // Кількість записаних ходів
+    public int size() {
+        return size;
+    }
+
+    // Кількість шашок кольору в початковій позиції
+    public int getStartPieceCount(Piece.Color color) {
+        return color == Piece.Color.WHITE ? startWhiteCount : startBlackCount;
+    }
+
+    // Стан гри на момент збереження запису
+    public GameController.GameState getSavedState() {
+        return savedState;
+    }
+
+    // Індекс ходу номер ply у списку легальних ходів
+    public int moveAt(int ply) {
+        if (ply < 0 || ply >= size) {
+            throw new IndexOutOfBoundsException("Хід " + ply + " з " + size);
+        }
+        return moves[ply] & 0xFF;
+    }
+
+    // Відтворити партію на дошці: початкова позиція і всі ходи через makeMove (стек відкату заповнюється)
+    public void replay(Board board) {
+        board.setPosition(startWhite, startBlack, startKings, startSide);
+        MoveList legalMoves = new MoveList();
+        for (int ply = 0; ply < size; ply++) {
+            MoveGenerator.generateMoves(board, board.getSideToMove(), legalMoves);
+            int index = moveAt(ply);
+            if (index >= legalMoves.size()) {
+                throw new IllegalStateException("Хід " + ply + " не відповідає позиції");
+            }
+            board.makeMove(legalMoves.getMove(index), legalMoves.getCaptured(index));
+        }
+    }
+
+    // Закодувати запис разом зі знімком поточної позиції (гра в процесі)
+    public byte[] toBytes(Board current) {
+        return toBytes(current, GameController.GameState.IN_PROGRESS);
+    }
+
+    // Закодувати запис разом зі знімком поточної позиції і станом гри
+    public byte[] toBytes(Board current, GameController.GameState state) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + STATE_BYTES + 2 * SNAPSHOT_BYTES + 4 + size);
+        buffer.putInt(MAGIC).putInt(VERSION).put((byte) state.ordinal());
+        writeSnapshot(buffer, startWhite, startBlack, startKings, startSide);
+        writeSnapshot(current, buffer);
+        buffer.putInt(size).put(moves, 0, size);
+        return buffer.array();
+    }
+
+    // Розібрати запис і відновити дошку: відтворенням ходів, а якщо журнал не сходиться - зі знімка
+    public static GameRecord fromBytes(byte[] data, Board board) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int version = data.length >= HEADER_BYTES && buffer.getInt() == MAGIC ? buffer.getInt() : -1;
+        if (version != VERSION && version != VERSION_WITHOUT_STATE) {
+            throw new IllegalArgumentException("Невідомий формат запису партії");
+        }
+        int snapshots = version == VERSION ? HEADER_BYTES + STATE_BYTES : HEADER_BYTES;
+        if (data.length < snapshots + 2 * SNAPSHOT_BYTES + 4) {
+            throw new IllegalArgumentException("Пошкоджений запис партії");
+        }
+        GameController.GameState state = GameController.GameState.IN_PROGRESS;
+        if (version == VERSION) {
+            int ordinal = buffer.get();
+            if (ordinal < 0 || ordinal >= GameController.GameState.values().length) {
+                throw new IllegalArgumentException("Пошкоджений запис партії");
+            }
+            state = GameController.GameState.values()[ordinal];
+        }
+
+        readSnapshot(buffer, board);
+        GameRecord record = new GameRecord(board);
+        record.savedState = state;
+        readSnapshot(buffer, board);
+        int count = buffer.getInt();
+        if (count < 0 || count != buffer.remaining()) {
+            throw new IllegalArgumentException("Пошкоджений запис партії");
+        }
+        record.moves = new byte[Math.max(count, INITIAL_CAPACITY)];
+        buffer.get(record.moves, 0, count);
+        record.size = count;
+        record.redoLimit = count;
+
+        long snapshotKey = board.getZobristKey();
+        try {
+            record.replay(board);
+            if (board.getZobristKey() == snapshotKey) {
+                return record;
+            }
+        } catch (IllegalStateException e) {
+            // Журнал не відповідає позиції - нижче беремо знімок
+        }
+
+        // Без журналу: поточна позиція стає початковою, а лічильники взятих шашок - від початку партії
+        int whiteCount = record.startWhiteCount;
+        int blackCount = record.startBlackCount;
+        buffer.position(snapshots + SNAPSHOT_BYTES);
+        readSnapshot(buffer, board);
+        record.reset(board);
+        record.startWhiteCount = whiteCount;
+        record.startBlackCount = blackCount;
+        return record;
+    }
+
+    // Записати знімок дошки (SNAPSHOT_BYTES байтів)
+    public static void writeSnapshot(Board board, ByteBuffer buffer) {
+        writeSnapshot(buffer, board.getWhitePieces(), board.getBlackPieces(), board.getKings(),
+                board.getSideToMove());
+    }
+
+    // Розставити на дошці позицію зі знімка
+    public static void readSnapshot(ByteBuffer buffer, Board board) {
+        int white = buffer.getInt();
+        int black = buffer.getInt();
+        int kings = buffer.getInt();
+        Piece.Color side = buffer.get() == 0 ? Piece.Color.WHITE : Piece.Color.BLACK;
+        board.setPosition(white, black, kings, side);
+    }
+
+    private static void writeSnapshot(ByteBuffer buffer, int white, int black, int kings, Piece.Color side) {
+        buffer.putInt(white).putInt(black).putInt(kings).put((byte) (side == Piece.Color.WHITE ? 0 : 1));
+    }
+}
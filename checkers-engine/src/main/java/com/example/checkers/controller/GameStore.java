@@ -0,0 +1,94 @@
+package com.example.checkers.controller;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// Збереження запису партії у файл через FileChannel у фоновому потоці.
+// Запис іде в тимчасовий файл з перейменуванням, тож обірваний запис не псує попередню партію;
+// якщо кілька збережень чекають у черзі, пишеться лише останнє.
+public class GameStore {
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+
+    private final File file;
+    private final File tempFile;
+    private final Consumer<IOException> errorHandler;
+
+    // Один потік запису: файли не пишуться паралельно
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Дані, що ще не записані (null - черга порожня)
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+
+    // Конструктор: файл партії і обробник помилок фонового запису
+    public GameStore(File file, Consumer<IOException> errorHandler) {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + ".tmp");
+        this.errorHandler = errorHandler;
+    }
+
+    // Зберегти дані асинхронно
+    public void saveAsync(byte[] data) {
+        if (pending.getAndSet(data) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    // Прочитати збережену партію або null, якщо її немає (файл - десятки байтів)
+    public byte[] load() throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Читаємо до кінця файлу
+            }
+            return buffer.array();
+        }
+    }
+
+    // Дочекатися запису черги (файл крихітний, тож чекаємо недовго) і зупинити потік
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending() {
+        byte[] data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+        try (FileOutputStream out = new FileOutputStream(tempFile);
+             FileChannel channel = out.getChannel()) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            errorHandler.accept(e);
+            return;
+        }
+        if (!tempFile.renameTo(file)) {
+            errorHandler.accept(new IOException("Не вдалося перейменувати " + tempFile));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.checkers.controller;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Player;
+import com.example.checkers.utils.MoveValidator;
+
+// Гравець-людина: хід з UI шукається серед легальних і виконується через Board.makeMove
+public class HumanPlayer extends Player {
+    // Буфер легальних ходів для пошуку вибраного ходу
+    private final MoveList legalMoves = new MoveList();
+
+    // Конструктор
+    public HumanPlayer(String name, Piece.Color color) {
+        super(name, color);
+    }
+
+    @Override
+    public boolean makeMove(Board board, int fromRow, int fromCol, int toRow, int toCol) {
+        return makeMove(board, fromRow, fromCol, toRow, toCol, MoveValidator.ANY_CAPTURED);
+    }
+
+    @Override
+    public boolean makeMove(Board board, int fromRow, int fromCol, int toRow, int toCol, int captured) {
+        int index = MoveValidator.findLegalMove(board, getColor(), fromRow, fromCol, toRow, toCol,
+                captured, legalMoves);
+        if (index < 0) {
+            return false;
+        }
+        playLegalMove(board, legalMoves, index);
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.checkers.controller;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+
+// Подія виконаного ходу для UI: які клітинки змінились (звідки, куди, взяті) і чи стала шашка дамкою.
+// Клітинки - номери темних клітинок Board (рядок і стовпець - Board.rowOf / Board.colOf)
+public class MoveEvent {
+    private final Piece.Color color;
+    private final int move;
+    private final int captured;
+    private final int capturedKings;
+    private final boolean king;
+    // Клітинки, зайняті шашками обох кольорів до ходу (для перевірки приземлень шляху)
+    private final int occupied;
+
+    public MoveEvent(Piece.Color color, int move, int captured, int capturedKings, boolean king, int occupied) {
+        this.color = color;
+        this.move = move;
+        this.captured = captured;
+        this.capturedKings = capturedKings;
+        this.king = king;
+        this.occupied = occupied;
+    }
+
+    // Подія для останнього ходу на дошці
+    static MoveEvent lastMove(Board board) {
+        int move = board.getLastMove();
+        int toBit = 1 << MoveList.to(move);
+        Piece.Color color = (board.getWhitePieces() & toBit) != 0
+                ? Piece.Color.WHITE
+                : Piece.Color.BLACK;
+        boolean king = (board.getKings() & toBit) != 0 && !MoveList.isPromotion(move);
+        // Позиція до ходу: шашка ще на початковій клітинці, взяті шашки ще на дошці
+        int occupied = ((board.getWhitePieces() | board.getBlackPieces()) & ~toBit)
+                | (1 << MoveList.from(move)) | board.getLastCaptured();
+        return new MoveEvent(color, move, board.getLastCaptured(), board.getLastCapturedKings(), king, occupied);
+    }
+
+    // Колір шашки, що ходила
+    public Piece.Color getColor() {
+        return color;
+    }
+
+    public int getFromSquare() {
+        return MoveList.from(move);
+    }
+
+    public int getToSquare() {
+        return MoveList.to(move);
+    }
+
+    // Маска взятих шашок
+    public int getCapturedSquares() {
+        return captured;
+    }
+
+    // Маска дамок серед взятих шашок
+    public int getCapturedKings() {
+        return capturedKings;
+    }
+
+    public boolean isPromotion() {
+        return MoveList.isPromotion(move);
+    }
+
+    // Чи була шашка дамкою до ходу
+    public boolean wasKing() {
+        return king;
+    }
+
+    // Маска всіх клітинок, які треба перемалювати
+    public int getChangedSquares() {
+        return (1 << getFromSquare()) | (1 << getToSquare()) | captured;
+    }
+
+    // Шлях шашки від початкової до кінцевої клітинки; для взяття - з кожним приземленням ланцюжка.
+    // Порядок стрибків відновлюється з маски взятих: кожен стрибок - через одну взяту шашку, лише в
+    // дозволених шашці напрямках і на клітинку, порожню до ходу (крім власної початкової у петлі дамки)
+    public int[] getPath() {
+        int jumps = Integer.bitCount(captured);
+        int[] path = new int[jumps + 1];
+        path[0] = getFromSquare();
+        if (jumps == 0 || !findPath(path, 0, captured)) {
+            return new int[]{getFromSquare(), getToSquare()};
+        }
+        return path;
+    }
+
+    private boolean findPath(int[] path, int step, int remaining) {
+        int square = path[step];
+        if (remaining == 0) {
+            return square == getToSquare();
+        }
+        int row = Board.rowOf(square);
+        int col = Board.colOf(square);
+        // Білі шашки ходять вниз, чорні - вгору; дамки - в усі боки
+        int forward = color == Piece.Color.WHITE ? 1 : -1;
+        for (int rowStep = -1; rowStep <= 1; rowStep += 2) {
+            if (!king && rowStep != forward) {
+                continue;
+            }
+            for (int colStep = -1; colStep <= 1; colStep += 2) {
+                int over = Board.toSquare(row + rowStep, col + colStep);
+                int landing = Board.toSquare(row + 2 * rowStep, col + 2 * colStep);
+                if (over >= 0 && landing >= 0 && (remaining & (1 << over)) != 0
+                        && ((occupied & (1 << landing)) == 0 || landing == getFromSquare())) {
+                    path[step + 1] = landing;
+                    if (findPath(path, step + 1, remaining & ~(1 << over))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoveList.format(move, captured);
+    }
+}
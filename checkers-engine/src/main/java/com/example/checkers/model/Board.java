@@ -0,0 +1,582 @@
+package com.example.checkers.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Board {
+    private static final int BOARD_SIZE = 8;
+
+    // Кількість ігрових (темних) клітинок
+    public static final int SQUARES = 32;
+
+    // Початкові позиції: білі займають рядки 0-2, чорні - рядки 5-7
+    private static final int INITIAL_WHITE = 0x00000FFF;
+    private static final int INITIAL_BLACK = 0xFFF00000;
+
+    // Початкова місткість стеку відкату (росте за потреби)
+    private static final int INITIAL_UNDO_CAPACITY = 256;
+
+    // Кошики лічильника ключів історії (фільтр перед точною перевіркою повторення)
+    private static final int HISTORY_BUCKETS = 1024;
+
+    // Нульова таблиця оцінки, поки оцінювач не задав свою
+    private static final int[] EMPTY_TABLE = new int[4 * SQUARES];
+
+    // Бітові маски позиції: біт i відповідає темній клітинці i = row * 4 + col / 2
+    private int whitePieces;
+    private int blackPieces;
+    private int kings;
+
+    // Хто зараз ходить (людина грає чорними і ходить першою)
+    private Piece.Color sideToMove = Piece.Color.BLACK;
+
+    // Ключ Zobrist, що оновлюється інкрементально при кожній зміні позиції
+    private long zobristKey = Zobrist.BLACK_TO_MOVE;
+
+    // Таблиця оцінки "шашка на клітинці" з точки зору білих (індекс як у Zobrist: kind * 32 + square)
+    private int[] pieceSquareTable = EMPTY_TABLE;
+
+    // Сума значень таблиці для всіх шашок; оновлюється інкрементально разом з ключем
+    private int positionalScore;
+
+    // Фасад з об'єктів Piece для UI та контролера (індекс - номер темної клітинки)
+    private final Piece[] pieces;
+
+    // Стек відкату ходів на примітивних масивах: хід, маска взятих, маска взятих дамок
+    private int[] undoMoves = new int[INITIAL_UNDO_CAPACITY];
+    private int[] undoCaptured = new int[INITIAL_UNDO_CAPACITY];
+    private int[] undoCapturedKings = new int[INITIAL_UNDO_CAPACITY];
+    private long[] undoKeys = new long[INITIAL_UNDO_CAPACITY];
+    private int[] undoScores = new int[INITIAL_UNDO_CAPACITY];
+    private int[] undoNoProgress = new int[INITIAL_UNDO_CAPACITY];
+    private int undoSize;
+
+    // Напівходи поспіль без прогресу (лише дамками і без взять); повторитися можуть лише позиції в цих межах
+    private int noProgressPlies;
+
+    // Ключі позицій до кореня копії дошки (стек відкату копії порожній, а повторення рахуються від початку)
+    private long[] priorKeys = new long[0];
+
+    // Скільки ключів історії (стек відкату і priorKeys) потрапляє в кожен кошик
+    private final short[] historyCounts = new short[HISTORY_BUCKETS];
+
+    // Взяті об'єкти Piece для відновлення фасаду при відкаті
+    private Piece[] capturedPieces = new Piece[INITIAL_UNDO_CAPACITY];
+    private int capturedSize;
+
+    // Конструктор для ініціалізації дошки
+    public Board() {
+        pieces = new Piece[SQUARES];
+        initializeBoard();
+    }
+
+    // Копія позиції (для пошуку в іншому потоці); стек відкату не копіюється
+    public Board(Board other) {
+        pieces = new Piece[SQUARES];
+        whitePieces = other.whitePieces;
+        blackPieces = other.blackPieces;
+        kings = other.kings;
+        sideToMove = other.sideToMove;
+        zobristKey = other.zobristKey;
+        pieceSquareTable = other.pieceSquareTable;
+        positionalScore = other.positionalScore;
+
+        // Для повторень копіюються лише ключі в межах ходів без прогресу
+        noProgressPlies = other.noProgressPlies;
+        priorKeys = new long[noProgressPlies];
+        for (int back = 1; back <= noProgressPlies; back++) {
+            long key = other.historyKey(back);
+            priorKeys[noProgressPlies - back] = key;
+            historyCounts[bucket(key)]++;
+        }
+
+        int occupied = whitePieces | blackPieces;
+        while (occupied != 0) {
+            int square = Integer.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+
+            Piece piece = new Piece((whitePieces & (1 << square)) != 0 ? Piece.Color.WHITE : Piece.Color.BLACK);
+            if ((kings & (1 << square)) != 0) {
+                piece.setType(Piece.Type.KING);
+            }
+            attach(piece, square);
+        }
+    }
+
+    // Розставити позицію за бітовими масками; стек відкату очищується
+    public void setPosition(int white, int black, int kingMask, Piece.Color side) {
+        if ((white & black) != 0 || (kingMask & ~(white | black)) != 0) {
+            throw new IllegalArgumentException("Некоректні маски позиції");
+        }
+
+        for (int square = 0; square < SQUARES; square++) {
+            if (pieces[square] != null) {
+                clearSquare(square);
+            }
+        }
+        undoSize = 0;
+        capturedSize = 0;
+        noProgressPlies = 0;
+        priorKeys = new long[0];
+        Arrays.fill(historyCounts, (short) 0);
+
+        whitePieces = white;
+        blackPieces = black;
+        kings = kingMask;
+        sideToMove = side;
+        zobristKey = side == Piece.Color.BLACK ? Zobrist.BLACK_TO_MOVE : 0;
+        positionalScore = 0;
+
+        int occupied = white | black;
+        while (occupied != 0) {
+            int square = Integer.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+
+            int kind = kindAt(square);
+            Piece piece = new Piece((white & (1 << square)) != 0 ? Piece.Color.WHITE : Piece.Color.BLACK);
+            if ((kingMask & (1 << square)) != 0) {
+                piece.setType(Piece.Type.KING);
+            }
+            attach(piece, square);
+            zobristKey ^= Zobrist.pieceKey(kind, square);
+            positionalScore += pieceSquareTable[(kind << 5) | square];
+        }
+    }
+
+    // Метод для initial setup дошки
+    private void initializeBoard() {
+        whitePieces = INITIAL_WHITE;
+        blackPieces = INITIAL_BLACK;
+        kings = 0;
+
+        for (int square = 0; square < SQUARES; square++) {
+            int bit = 1 << square;
+            if ((whitePieces & bit) != 0) {
+                attach(new Piece(Piece.Color.WHITE), square);
+                zobristKey ^= Zobrist.pieceKey(Zobrist.WHITE_MAN, square);
+                positionalScore += pieceSquareTable[(Zobrist.WHITE_MAN << 5) | square];
+            } else if ((blackPieces & bit) != 0) {
+                attach(new Piece(Piece.Color.BLACK), square);
+                zobristKey ^= Zobrist.pieceKey(Zobrist.BLACK_MAN, square);
+                positionalScore += pieceSquareTable[(Zobrist.BLACK_MAN << 5) | square];
+            }
+        }
+    }
+
+    // Номер темної клітинки за координатами (-1 для світлих клітинок і позицій поза дошкою)
+    public static int toSquare(int row, int col) {
+        if (row < 0 || row >= BOARD_SIZE || col < 0 || col >= BOARD_SIZE || ((row + col) & 1) == 0) {
+            return -1;
+        }
+        return (row << 2) | (col >> 1);
+    }
+
+    // Рядок темної клітинки
+    public static int rowOf(int square) {
+        return square >> 2;
+    }
+
+    // Стовпець темної клітинки: у парних рядках темні клітинки на непарних стовпцях
+    public static int colOf(int square) {
+        return ((square & 3) << 1) | (~(square >> 2) & 1);
+    }
+
+    // Перевірка, чи валідна позиція на дошці
+    public boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < BOARD_SIZE &&
+                col >= 0 && col < BOARD_SIZE;
+    }
+
+    // Отримати piece з певної позиції
+    public Piece getPieceAt(int row, int col) {
+        int square = toSquare(row, col);
+        if (square < 0) {
+            return null;
+        }
+        return pieces[square];
+    }
+
+    // Встановити piece на певну позицію
+    public void setPieceAt(int row, int col, Piece piece) {
+        int square = toSquare(row, col);
+        if (square < 0) {
+            return; // На світлих клітинках шашок бути не може
+        }
+
+        clearSquare(square);
+        if (piece != null) {
+            int bit = 1 << square;
+            if (piece.getColor() == Piece.Color.WHITE) {
+                whitePieces |= bit;
+            } else {
+                blackPieces |= bit;
+            }
+            if (piece.isKing()) {
+                kings |= bit;
+            }
+            int kind = Zobrist.kind(piece.isWhite(), piece.isKing());
+            zobristKey ^= Zobrist.pieceKey(kind, square);
+            positionalScore += pieceSquareTable[(kind << 5) | square];
+            attach(piece, square);
+        }
+    }
+
+    // Видалити piece з позиції
+    public void removePieceAt(int row, int col) {
+        int square = toSquare(row, col);
+        if (square >= 0) {
+            clearSquare(square);
+        }
+    }
+
+    // Перевірити, чи є pieces певного кольору
+    public boolean hasPiecesForColor(Piece.Color color) {
+        return getPieces(color) != 0;
+    }
+
+    // Кількість шашок певного кольору
+    public int countPieces(Piece.Color color) {
+        return Integer.bitCount(getPieces(color));
+    }
+
+    // Маска шашок певного кольору
+    public int getPieces(Piece.Color color) {
+        return color == Piece.Color.WHITE ? whitePieces : blackPieces;
+    }
+
+    // Маска білих шашок
+    public int getWhitePieces() {
+        return whitePieces;
+    }
+
+    // Маска чорних шашок
+    public int getBlackPieces() {
+        return blackPieces;
+    }
+
+    // Маска дамок обох кольорів
+    public int getKings() {
+        return kings;
+    }
+
+    // Хто зараз ходить
+    public Piece.Color getSideToMove() {
+        return sideToMove;
+    }
+
+    // Встановити сторону, що ходить (ключ Zobrist оновлюється за O(1))
+    public void setSideToMove(Piece.Color color) {
+        if (color != sideToMove) {
+            sideToMove = color;
+            zobristKey ^= Zobrist.BLACK_TO_MOVE;
+        }
+    }
+
+    // Ключ Zobrist поточної позиції
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    // Задати таблицю оцінки "шашка на клітинці" (4 * 32 значення з точки зору білих)
+    public void setPieceSquareTable(int[] table) {
+        if (table.length != EMPTY_TABLE.length) {
+            throw new IllegalArgumentException("Таблиця оцінки має містити " + EMPTY_TABLE.length + " значень");
+        }
+        if (table == pieceSquareTable) {
+            return;
+        }
+
+        pieceSquareTable = table;
+        positionalScore = 0;
+        int occupied = whitePieces | blackPieces;
+        while (occupied != 0) {
+            int square = Integer.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+            positionalScore += table[(kindAt(square) << 5) | square];
+        }
+    }
+
+    // Позиційна оцінка з точки зору білих за поточною таблицею (O(1))
+    public int getPositionalScore() {
+        return positionalScore;
+    }
+
+    // Маска вільних темних клітинок
+    public int getEmptySquares() {
+        return ~(whitePieces | blackPieces);
+    }
+
+    // Виконати хід на місці (без копіювання дошки); відкат - unmakeMove()
+    public void makeMove(int move, int captured) {
+        int from = MoveList.from(move);
+        int to = MoveList.to(move);
+        int fromBit = 1 << from;
+        int toBit = 1 << to;
+
+        if (undoSize == undoMoves.length) {
+            growUndoStack();
+        }
+        undoMoves[undoSize] = move;
+        undoCaptured[undoSize] = captured;
+        undoCapturedKings[undoSize] = kings & captured;
+        undoKeys[undoSize] = zobristKey;
+        undoScores[undoSize] = positionalScore;
+        undoNoProgress[undoSize] = noProgressPlies;
+        undoSize++;
+        historyCounts[bucket(zobristKey)]++;
+
+        boolean white = (whitePieces & fromBit) != 0;
+        boolean king = (kings & fromBit) != 0;
+        int fromKind = Zobrist.kind(white, king);
+        int toKind = Zobrist.kind(white, king || MoveList.isPromotion(move));
+        long key = zobristKey ^ Zobrist.BLACK_TO_MOVE
+                ^ Zobrist.pieceKey(fromKind, from)
+                ^ Zobrist.pieceKey(toKind, to);
+        int score = positionalScore
+                - pieceSquareTable[(fromKind << 5) | from]
+                + pieceSquareTable[(toKind << 5) | to];
+
+        // Дамка може завершити ланцюжок на стартовій клітинці, тому не використовуємо XOR
+        if (white) {
+            whitePieces = (whitePieces & ~fromBit) | toBit;
+            blackPieces &= ~captured;
+        } else {
+            blackPieces = (blackPieces & ~fromBit) | toBit;
+            whitePieces &= ~captured;
+        }
+        if ((kings & fromBit) != 0) {
+            kings = (kings & ~fromBit) | toBit;
+        }
+        kings &= ~captured;
+
+        Piece piece = pieces[from];
+        pieces[from] = null;
+        pieces[to] = piece;
+        piece.square = to;
+
+        if (MoveList.isPromotion(move)) {
+            kings |= toBit;
+            piece.setType(Piece.Type.KING);
+        }
+
+        while (captured != 0) {
+            int square = Integer.numberOfTrailingZeros(captured);
+            captured &= captured - 1;
+
+            if (capturedSize == capturedPieces.length) {
+                capturedPieces = Arrays.copyOf(capturedPieces, capturedSize * 2);
+            }
+            capturedPieces[capturedSize++] = pieces[square];
+            pieces[square].square = -1;
+            pieces[square] = null;
+
+            boolean capturedKing = (undoCapturedKings[undoSize - 1] & (1 << square)) != 0;
+            int capturedKind = Zobrist.kind(!white, capturedKing);
+            key ^= Zobrist.pieceKey(capturedKind, square);
+            score -= pieceSquareTable[(capturedKind << 5) | square];
+        }
+
+        zobristKey = key;
+        positionalScore = score;
+        sideToMove = white ? Piece.Color.BLACK : Piece.Color.WHITE;
+
+        // Хід простою шашкою або взяття незворотні - позиції до них уже не повторяться
+        noProgressPlies = king && undoCaptured[undoSize - 1] == 0 ? noProgressPlies + 1 : 0;
+    }
+
+    // Відкотити останній хід, виконаний через makeMove()
+    public void unmakeMove() {
+        undoSize--;
+        int move = undoMoves[undoSize];
+        int captured = undoCaptured[undoSize];
+        int from = MoveList.from(move);
+        int to = MoveList.to(move);
+        int fromBit = 1 << from;
+        int toBit = 1 << to;
+
+        // Ключ і позиційна оцінка відновлюються зі стеку за O(1)
+        zobristKey = undoKeys[undoSize];
+        positionalScore = undoScores[undoSize];
+        noProgressPlies = undoNoProgress[undoSize];
+        historyCounts[bucket(zobristKey)]--;
+
+        if ((whitePieces & toBit) != 0) {
+            sideToMove = Piece.Color.WHITE;
+            whitePieces = (whitePieces & ~toBit) | fromBit;
+            blackPieces |= captured;
+        } else {
+            sideToMove = Piece.Color.BLACK;
+            blackPieces = (blackPieces & ~toBit) | fromBit;
+            whitePieces |= captured;
+        }
+
+        Piece piece = pieces[to];
+        if (MoveList.isPromotion(move)) {
+            kings &= ~toBit;
+            piece.setType(Piece.Type.REGULAR);
+        }
+        if ((kings & toBit) != 0) {
+            kings = (kings & ~toBit) | fromBit;
+        }
+        kings |= undoCapturedKings[undoSize];
+
+        pieces[to] = null;
+        pieces[from] = piece;
+        piece.square = from;
+
+        // Взяті шашки повертаємо у зворотному порядку
+        while (captured != 0) {
+            int square = 31 - Integer.numberOfLeadingZeros(captured);
+            captured &= ~(1 << square);
+
+            Piece restored = capturedPieces[--capturedSize];
+            pieces[square] = restored;
+            restored.square = square;
+        }
+    }
+
+    // Кількість ходів у стеку відкату
+    public int getUndoDepth() {
+        return undoSize;
+    }
+
+    // Останній виконаний хід (запакований) або -1, якщо стек відкату порожній
+    public int getLastMove() {
+        return undoSize > 0 ? undoMoves[undoSize - 1] : -1;
+    }
+
+    // Маска шашок, взятих останнім ходом
+    public int getLastCaptured() {
+        return undoSize > 0 ? undoCaptured[undoSize - 1] : 0;
+    }
+
+    // Маска дамок серед шашок, взятих останнім ходом
+    public int getLastCapturedKings() {
+        return undoSize > 0 ? undoCapturedKings[undoSize - 1] : 0;
+    }
+
+    // Напівходи поспіль без руху простих шашок і без взять
+    public int getNoProgressPlies() {
+        return noProgressPlies;
+    }
+
+    // Скільки разів поточна позиція (з тією ж стороною, що ходить) траплялась, включно з поточною.
+    // Зазвичай O(1): якщо в кошику ключа немає жодної позиції історії, перебір не потрібен
+    public int getRepetitionCount() {
+        if (historyCounts[bucket(zobristKey)] == 0) {
+            return 1;
+        }
+        int count = 1;
+        for (int back = 2; back <= noProgressPlies; back += 2) {
+            if (historyKey(back) == zobristKey) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Ключ позиції back напівходів тому (зі стеку відкату, далі - з історії до кореня копії)
+    private long historyKey(int back) {
+        return back <= undoSize ? undoKeys[undoSize - back] : priorKeys[priorKeys.length - (back - undoSize)];
+    }
+
+    private static int bucket(long key) {
+        return (int) key & (HISTORY_BUCKETS - 1);
+    }
+
+    // Розширити стек відкату
+    private void growUndoStack() {
+        int capacity = undoMoves.length * 2;
+        undoMoves = Arrays.copyOf(undoMoves, capacity);
+        undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+        undoCapturedKings = Arrays.copyOf(undoCapturedKings, capacity);
+        undoKeys = Arrays.copyOf(undoKeys, capacity);
+        undoScores = Arrays.copyOf(undoScores, capacity);
+        undoNoProgress = Arrays.copyOf(undoNoProgress, capacity);
+    }
+
+    // Виклик з Piece.kingMe(): синхронізуємо маску дамок
+    void onPieceKinged(Piece piece) {
+        int square = piece.square;
+        if (square >= 0 && pieces[square] == piece && (kings & (1 << square)) == 0) {
+            kings |= 1 << square;
+            int manKind = Zobrist.kind(piece.isWhite(), false);
+            int kingKind = Zobrist.kind(piece.isWhite(), true);
+            zobristKey ^= Zobrist.pieceKey(manKind, square) ^ Zobrist.pieceKey(kingKind, square);
+            positionalScore += pieceSquareTable[(kingKind << 5) | square]
+                    - pieceSquareTable[(manKind << 5) | square];
+        }
+    }
+
+    // Очистити клітинку в масках і у фасаді
+    private void clearSquare(int square) {
+        int bit = 1 << square;
+        if (((whitePieces | blackPieces) & bit) != 0) {
+            int kind = kindAt(square);
+            zobristKey ^= Zobrist.pieceKey(kind, square);
+            positionalScore -= pieceSquareTable[(kind << 5) | square];
+        }
+
+        int mask = ~bit;
+        whitePieces &= mask;
+        blackPieces &= mask;
+        kings &= mask;
+
+        Piece previous = pieces[square];
+        if (previous != null) {
+            pieces[square] = null;
+            if (previous.board == this && previous.square == square) {
+                previous.board = null;
+                previous.square = -1;
+            }
+        }
+    }
+
+    // Вид зайнятої шашки на клітинці (як у Zobrist)
+    private int kindAt(int square) {
+        int bit = 1 << square;
+        return Zobrist.kind((whitePieces & bit) != 0, (kings & bit) != 0);
+    }
+
+    // Прив'язати об'єкт Piece до клітинки
+    private void attach(Piece piece, int square) {
+        pieces[square] = piece;
+        piece.board = this;
+        piece.square = square;
+    }
+
+    // Отримати можливі ходи для фігури на заданій позиції
+    public List<int[]> getPossibleMoves(int row, int col) {
+        List<int[]> possibleMoves = new ArrayList<>();
+        Piece piece = getPieceAt(row, col);
+
+        if (piece == null) {
+            return possibleMoves; // Якщо немає фігури на цій клітинці, повертаємо порожній список
+        }
+
+        int direction = piece.getColor() == Piece.Color.WHITE ? -1 : 1; // Напрямок руху: для білих - вгору, для чорних - вниз
+
+        // Перевірка можливих простих рухів (по діагоналі)
+        // Зліва вгору (для білих) або справа вниз (для чорних)
+        if (isValidPosition(row + direction, col - 1) && getPieceAt(row + direction, col - 1) == null) {
+            possibleMoves.add(new int[]{row + direction, col - 1});
+        }
+        // Справа вгору (для білих) або зліва вниз (для чорних)
+        if (isValidPosition(row + direction, col + 1) && getPieceAt(row + direction, col + 1) == null) {
+            possibleMoves.add(new int[]{row + direction, col + 1});
+        }
+
+        // Перевірка можливих стрибків через фігури
+        // Стрибок через ліву фігуру
+        if (isValidPosition(row + 2 * direction, col - 2) && getPieceAt(row + direction, col - 1) != null && getPieceAt(row + direction, col - 1).getColor() != piece.getColor() && getPieceAt(row + 2 * direction, col - 2) == null) {
+            possibleMoves.add(new int[]{row + 2 * direction, col - 2});
+        }
+        // Стрибок через праву фігуру
+        if (isValidPosition(row + 2 * direction, col + 2) && getPieceAt(row + direction, col + 1) != null && getPieceAt(row + direction, col + 1).getColor() != piece.getColor() && getPieceAt(row + 2 * direction, col + 2) == null) {
+            possibleMoves.add(new int[]{row + 2 * direction, col + 2});
+        }
+
+        return possibleMoves;
+    }
+}
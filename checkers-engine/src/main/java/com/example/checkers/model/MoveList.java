@@ -0,0 +1,90 @@
+package com.example.checkers.model;
+
+// Багаторазовий буфер ходів у запакованому вигляді без алокацій під час генерації
+public class MoveList {
+    // Максимальна кількість ходів в одній позиції з запасом
+    public static final int CAPACITY = 256;
+
+    // Розкладка запакованого ходу: біти 0-4 - звідки, 5-9 - куди, 10 - перетворення на дамку
+    private static final int SQUARE_MASK = 0x1F;
+    private static final int TO_SHIFT = 5;
+    private static final int PROMOTION_FLAG = 1 << 10;
+
+    private final int[] moves = new int[CAPACITY];
+    private final int[] captured = new int[CAPACITY];
+    private int size;
+
+    // Запакувати хід у int
+    public static int encode(int from, int to, boolean promotion) {
+        int move = from | (to << TO_SHIFT);
+        return promotion ? move | PROMOTION_FLAG : move;
+    }
+
+    // Клітинка, з якої робиться хід
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    // Клітинка, на яку робиться хід
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    // Чи перетворюється шашка на дамку цим ходом
+    public static boolean isPromotion(int move) {
+        return (move & PROMOTION_FLAG) != 0;
+    }
+
+    // Текстовий запис ходу в координатах дошки, наприклад "c3-d4" або "c3xe5"
+    public static String format(int move, int capturedMask) {
+        return squareName(from(move)) + (capturedMask != 0 ? "x" : "-") + squareName(to(move));
+    }
+
+    // Назва клітинки: стовпець a-h, рядок 8-1 (рядок 0 дошки - восьмий)
+    private static String squareName(int square) {
+        return String.valueOf((char) ('a' + Board.colOf(square))) + (8 - Board.rowOf(square));
+    }
+
+    // Додати хід разом з маскою захоплених шашок
+    public void add(int move, int capturedMask) {
+        moves[size] = move;
+        captured[size] = capturedMask;
+        size++;
+    }
+
+    // Поміняти місцями два ходи (для впорядкування)
+    public void swap(int i, int j) {
+        int move = moves[i];
+        moves[i] = moves[j];
+        moves[j] = move;
+
+        int mask = captured[i];
+        captured[i] = captured[j];
+        captured[j] = mask;
+    }
+
+    // Очистити буфер перед повторним використанням
+    public void clear() {
+        size = 0;
+    }
+
+    // Кількість ходів у буфері
+    public int size() {
+        return size;
+    }
+
+    // Чи порожній буфер
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Запакований хід за індексом
+    public int getMove(int index) {
+        return moves[index];
+    }
+
+    // Маска захоплених шашок для ходу за індексом
+    public int getCaptured(int index) {
+        return captured[index];
+    }
+}
@@ -16,6 +16,10 @@ public class Piece {
     private Type type;
     private boolean isAlive;
 
+    // Дошка та клітинка, на якій стоїть шашка (для синхронізації бітових масок)
+    Board board;
+    int square = -1;
+
     // Конструктор
     public Piece(Color color) {
         this.color = color;
@@ -36,6 +40,14 @@ public class Piece {
     // Перетворення на королеву
     public void kingMe() {
         this.type = Type.KING;
+        if (board != null) {
+            board.onPieceKinged(this);
+        }
+    }
+
+    // Зміна типу без сповіщення дошки (для відкату ходу)
+    void setType(Type type) {
+        this.type = type;
     }
 
     // Перевірка, чи є шашка королевою
@@ -0,0 +1,72 @@
+package com.example.checkers.model;
+
+public abstract class Player {
+    private final String name;
+    private final Piece.Color color;
+    private int capturedPieces;
+
+    // Індекс останнього виконаного ходу в списку легальних ходів (для запису партії)
+    private int lastMoveIndex = -1;
+
+    // Конструктор
+    public Player(String name, Piece.Color color) {
+        this.name = name;
+        this.color = color;
+        this.capturedPieces = 0;
+    }
+
+    // Абстрактний метод для здійснення ходу
+    public abstract boolean makeMove(Board board, int fromRow, int fromCol,
+                                     int toRow, int toCol);
+
+    // Хід конкретним ланцюжком взяття (маска взятих шашок); гравці без вибору ланцюжка її ігнорують
+    public boolean makeMove(Board board, int fromRow, int fromCol,
+                            int toRow, int toCol, int captured) {
+        return makeMove(board, fromRow, fromCol, toRow, toCol);
+    }
+
+    // Getter для імені
+    public String getName() {
+        return name;
+    }
+
+    // Getter для кольору
+    public Piece.Color getColor() {
+        return color;
+    }
+
+    // Виконати легальний хід через Board.makeMove (з відкатом через unmakeMove) і врахувати взяті шашки
+    protected void playLegalMove(Board board, MoveList legalMoves, int index) {
+        int captured = legalMoves.getCaptured(index);
+        board.makeMove(legalMoves.getMove(index), captured);
+        capturedPieces += Integer.bitCount(captured);
+        lastMoveIndex = index;
+    }
+
+    // Getter для індексу останнього ходу
+    public int getLastMoveIndex() {
+        return lastMoveIndex;
+    }
+
+    // Додати захоплену шашку
+    public void incrementCapturedPieces() {
+        capturedPieces++;
+    }
+
+    // Встановити кількість захоплених шашок (відновлення збереженої партії)
+    public void setCapturedPieces(int capturedPieces) {
+        this.capturedPieces = capturedPieces;
+    }
+
+    // Отримати кількість захоплених шашок
+    public int getCapturedPieces() {
+        return capturedPieces;
+    }
+
+    // Перевірка, чи може гравець зробити хід
+    public boolean canMakeMove(Board board) {
+        // Логіка перевірки наявності можливих ходів
+        // Реалізація залежатиме від конкретних правил гри
+        return board.hasPiecesForColor(color);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.checkers.model;
+
+// Випадкові 64-бітні ключі Zobrist для ідентифікації позиції
+public class Zobrist {
+    // Види шашок: біле/чорне, звичайна/дамка
+    public static final int WHITE_MAN = 0;
+    public static final int WHITE_KING = 1;
+    public static final int BLACK_MAN = 2;
+    public static final int BLACK_KING = 3;
+
+    // Фіксоване зерно: ключі мають бути однаковими між запусками (книга дебютів, збережені партії)
+    private static final long SEED = 0x5DEECE66DL;
+
+    // Ключі для кожного виду шашки на кожній клітинці (індекс = kind * 32 + square)
+    private static final long[] PIECE_KEYS = new long[4 * Board.SQUARES];
+
+    // Ключ, що додається, коли ходять чорні
+    public static final long BLACK_TO_MOVE;
+
+    static {
+        long state = SEED;
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            PIECE_KEYS[i] = mix(state);
+        }
+        state += 0x9E3779B97F4A7C15L;
+        BLACK_TO_MOVE = mix(state);
+    }
+
+    // Ключ шашки певного виду на клітинці
+    public static long pieceKey(int kind, int square) {
+        return PIECE_KEYS[(kind << 5) | square];
+    }
+
+    // Вид шашки за кольором і типом
+    public static int kind(boolean white, boolean king) {
+        return (white ? WHITE_MAN : BLACK_MAN) | (king ? 1 : 0);
+    }
+
+    // Перемішування SplitMix64 (незалежне від реалізації Random на різних JVM)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
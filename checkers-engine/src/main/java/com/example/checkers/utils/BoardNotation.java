@@ -0,0 +1,119 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+
+// Запис позиції у форматі FEN з PDN, наприклад "B:W21,22,K30:B1-12".
+// Нумерація PDN 1-32 починається з боку чорних, тому клітинка n відповідає нашій клітинці 32 - n.
+public class BoardNotation {
+    // FEN початкової позиції
+    public static final String INITIAL_FEN = "B:W21-32:B1-12";
+
+    // Створити дошку з FEN
+    public static Board fromFen(String fen) {
+        String[] parts = fen.trim().replace(".", "").split(":");
+        if (parts.length != 3 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("Некоректний FEN: " + fen);
+        }
+
+        Board board = new Board();
+        for (int square = 0; square < Board.SQUARES; square++) {
+            board.removePieceAt(Board.rowOf(square), Board.colOf(square));
+        }
+        for (int i = 1; i < parts.length; i++) {
+            parsePieces(board, parts[i], fen);
+        }
+        board.setSideToMove(parseColor(parts[0].charAt(0), fen));
+        return board;
+    }
+
+    // Записати позицію дошки у FEN (клітинки за зростанням номерів PDN)
+    public static String toFen(Board board) {
+        return (board.getSideToMove() == Piece.Color.WHITE ? "W" : "B")
+                + ":W" + squaresOf(board, board.getWhitePieces())
+                + ":B" + squaresOf(board, board.getBlackPieces());
+    }
+
+    // Номер PDN для нашої клітинки і навпаки
+    public static int toPdn(int square) {
+        return Board.SQUARES - square;
+    }
+
+    public static int fromPdn(int pdnSquare) {
+        return Board.SQUARES - pdnSquare;
+    }
+
+    // Розібрати частину FEN з шашками одного кольору: "W21,K30,25-28"
+    private static void parsePieces(Board board, String part, String fen) {
+        if (part.isEmpty()) {
+            throw new IllegalArgumentException("Некоректний FEN: " + fen);
+        }
+        Piece.Color color = parseColor(part.charAt(0), fen);
+        if (part.length() == 1) {
+            return;
+        }
+
+        for (String token : part.substring(1).split(",")) {
+            token = token.trim();
+            boolean king = token.startsWith("K");
+            if (king) {
+                token = token.substring(1);
+            }
+
+            int dash = token.indexOf('-');
+            int first = parseSquare(dash < 0 ? token : token.substring(0, dash), fen);
+            int last = dash < 0 ? first : parseSquare(token.substring(dash + 1), fen);
+            for (int pdn = first; pdn <= last; pdn++) {
+                int square = fromPdn(pdn);
+                Piece piece = new Piece(color);
+                board.setPieceAt(Board.rowOf(square), Board.colOf(square), piece);
+                if (king) {
+                    piece.kingMe();
+                }
+            }
+        }
+    }
+
+    // Номер клітинки PDN 1-32
+    private static int parseSquare(String value, String fen) {
+        try {
+            int pdn = Integer.parseInt(value);
+            if (pdn >= 1 && pdn <= Board.SQUARES) {
+                return pdn;
+            }
+        } catch (NumberFormatException e) {
+            // Повідомлення нижче
+        }
+        throw new IllegalArgumentException("Некоректна клітинка у FEN: " + fen);
+    }
+
+    // Колір за літерою FEN
+    private static Piece.Color parseColor(char letter, String fen) {
+        if (letter == 'W') {
+            return Piece.Color.WHITE;
+        }
+        if (letter == 'B') {
+            return Piece.Color.BLACK;
+        }
+        throw new IllegalArgumentException("Некоректний колір у FEN: " + fen);
+    }
+
+    // Перелік клітинок маски через кому, дамки з префіксом K
+    private static String squaresOf(Board board, int mask) {
+        StringBuilder squares = new StringBuilder();
+        // Номери PDN зростають, коли наші номери спадають
+        while (mask != 0) {
+            int square = 31 - Integer.numberOfLeadingZeros(mask);
+            mask &= ~(1 << square);
+
+            if (squares.length() > 0) {
+                squares.append(',');
+            }
+            if ((board.getKings() & (1 << square)) != 0) {
+                squares.append('K');
+            }
+            squares.append(toPdn(square));
+        }
+        return squares.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+
+// Правила нічиєї: повторення позиції і ходи без прогресу (лише дамками, без взять).
+// Лічильники веде Board при makeMove/unmakeMove, тож перевірка - O(1) і придатна для дерева пошуку.
+public class DrawRules {
+    // Нічия при третьому повторенні позиції
+    public static final int DEFAULT_REPETITIONS = 3;
+
+    // Нічия після 40 ходів кожної сторони без руху простих шашок і без взять
+    public static final int DEFAULT_NO_PROGRESS_PLIES = 80;
+
+    // Стандартні правила
+    public static final DrawRules STANDARD = new DrawRules(DEFAULT_REPETITIONS, DEFAULT_NO_PROGRESS_PLIES);
+
+    private final int repetitions;
+    private final int noProgressPlies;
+
+    // Конструктор: кількість повторень і напівходів без прогресу до нічиєї
+    public DrawRules(int repetitions, int noProgressPlies) {
+        if (repetitions < 2 || noProgressPlies < 1) {
+            throw new IllegalArgumentException("Некоректні правила нічиєї");
+        }
+        this.repetitions = repetitions;
+        this.noProgressPlies = noProgressPlies;
+    }
+
+    // Нічия в партії
+    public boolean isDraw(Board board) {
+        return board.getNoProgressPlies() >= noProgressPlies
+                || board.getRepetitionCount() >= repetitions;
+    }
+
+    // Нічия у дереві пошуку: досить першого повторення, далі гра піде по колу
+    public boolean isSearchDraw(Board board) {
+        return board.getNoProgressPlies() >= noProgressPlies
+                || board.getRepetitionCount() >= 2;
+    }
+
+    // Getters
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public int getNoProgressPlies() {
+        return noProgressPlies;
+    }
+}
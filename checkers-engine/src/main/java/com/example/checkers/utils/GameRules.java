@@ -0,0 +1,18 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+
+public class GameRules {
+
+    // Перевірка умов нічиєї за стандартними правилами
+    public static boolean isDrawCondition(Board board) {
+        return isDrawCondition(board, DrawRules.STANDARD);
+    }
+
+    // Перевірка умов нічиєї: повторення позиції або ходи без прогресу, O(1) на виклик.
+    // Сторона без ходів програє (це перевіряє контролер), а недостатнього матеріалу
+    // в шашках немає: навіть дві дамки проти однієї виграють
+    public static boolean isDrawCondition(Board board, DrawRules rules) {
+        return rules.isDraw(board);
+    }
+}
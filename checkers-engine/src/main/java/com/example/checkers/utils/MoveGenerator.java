@@ -0,0 +1,251 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+
+// Генератор ходів на бітових масках: без алокацій, результат пишеться у MoveList викликача
+public class MoveGenerator {
+    // Маски парних і непарних рядків
+    private static final int EVEN_ROWS = 0x0F0F0F0F;
+    private static final int ODD_ROWS = 0xF0F0F0F0;
+
+    // Маски крайніх стовпців
+    private static final int COL_0 = 0x10101010;
+    private static final int COL_1 = 0x01010101;
+    private static final int COL_6 = 0x80808080;
+    private static final int COL_7 = 0x08080808;
+
+    // Рядки перетворення на дамку: білі йдуть до рядка 7, чорні - до рядка 0
+    private static final int ROW_0 = 0x0000000F;
+    private static final int ROW_7 = 0xF0000000;
+
+    // Напрямки руху
+    private static final int DOWN_LEFT = 0;
+    private static final int DOWN_RIGHT = 1;
+    private static final int UP_LEFT = 2;
+    private static final int UP_RIGHT = 3;
+
+    // Зсув до сусідньої клітинки залежить від парності рядка
+    private static final int[] STEP_EVEN = {4, 5, -4, -3};
+    private static final int[] STEP_ODD = {3, 4, -5, -4};
+
+    // Зсув стрибка однаковий для всіх рядків
+    private static final int[] JUMP = {7, 9, -9, -7};
+
+    // Клітинки, з яких можливий стрибок у напрямку (лівим потрібно 2 стовпці зліва, правим - справа)
+    private static final int[] JUMP_SOURCES = {
+            ~(COL_0 | COL_1), ~(COL_6 | COL_7), ~(COL_0 | COL_1), ~(COL_6 | COL_7)
+    };
+
+    // Згенерувати всі легальні ходи кольору (буфер очищується); взяття обов'язкове
+    public static void generateMoves(Board board, Piece.Color color, MoveList moves) {
+        moves.clear();
+        generateCaptures(board, color, moves);
+        if (moves.isEmpty()) {
+            generateQuietMoves(board, color, moves);
+        }
+    }
+
+    // Додати до буфера всі тихі ходи кольору
+    public static void generateQuietMoves(Board board, Piece.Color color, MoveList moves) {
+        int own = board.getPieces(color);
+        int empty = board.getEmptySquares();
+        int kings = own & board.getKings();
+        int men = own & ~kings;
+
+        int forwardFirst = forwardFirst(color);
+        int promotionRow = promotionRow(color);
+
+        for (int direction = 0; direction < 4; direction++) {
+            int movers = sourcesToward(direction, empty);
+            boolean forward = direction == forwardFirst || direction == forwardFirst + 1;
+
+            addSlides(moves, movers & kings, direction, 0);
+            if (forward) {
+                addSlides(moves, movers & men, direction, promotionRow);
+            }
+        }
+    }
+
+    // Додати до буфера всі максимальні ланцюжки взяття кольору
+    public static void generateCaptures(Board board, Piece.Color color, MoveList moves) {
+        int own = board.getPieces(color);
+        int opponent = board.getPieces(opposite(color));
+        int empty = board.getEmptySquares();
+        int kings = own & board.getKings();
+
+        int forwardFirst = forwardFirst(color);
+        int promotionRow = promotionRow(color);
+
+        int jumpers = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            boolean forward = direction == forwardFirst || direction == forwardFirst + 1;
+            jumpers |= (forward ? own : kings) & jumpSources(direction, opponent, empty);
+        }
+
+        while (jumpers != 0) {
+            int from = Integer.numberOfTrailingZeros(jumpers);
+            jumpers &= jumpers - 1;
+
+            boolean king = (kings & (1 << from)) != 0;
+            int firstChain = moves.size();
+            // Клітинка старту звільняється, поки шашка стрибає
+            addCaptureChains(moves, firstChain, from, from, king, opponent, empty | (1 << from), 0,
+                    forwardFirst, king ? 0 : promotionRow);
+        }
+    }
+
+    // Чи є у кольору хоча б одне взяття (лише маскові операції)
+    public static boolean hasCaptures(Board board, Piece.Color color) {
+        int own = board.getPieces(color);
+        int opponent = board.getPieces(opposite(color));
+        int empty = board.getEmptySquares();
+        int kings = own & board.getKings();
+        int forwardFirst = forwardFirst(color);
+
+        for (int direction = 0; direction < 4; direction++) {
+            boolean forward = direction == forwardFirst || direction == forwardFirst + 1;
+            if (((forward ? own : kings) & jumpSources(direction, opponent, empty)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Чи має колір хоча б один хід (лише маскові операції)
+    public static boolean hasMoves(Board board, Piece.Color color) {
+        int own = board.getPieces(color);
+        int opponent = board.getPieces(opposite(color));
+        int empty = board.getEmptySquares();
+        int kings = own & board.getKings();
+        int forwardFirst = forwardFirst(color);
+
+        for (int direction = 0; direction < 4; direction++) {
+            boolean forward = direction == forwardFirst || direction == forwardFirst + 1;
+            int pieces = forward ? own : kings;
+            if ((pieces & (sourcesToward(direction, empty) | jumpSources(direction, opponent, empty))) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Кількість тихих ходів кольору без генерації списку (для оцінки мобільності)
+    public static int countQuietMoves(Board board, Piece.Color color) {
+        int own = board.getPieces(color);
+        int empty = board.getEmptySquares();
+        int kings = own & board.getKings();
+        int forwardFirst = forwardFirst(color);
+
+        int count = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            boolean forward = direction == forwardFirst || direction == forwardFirst + 1;
+            count += Integer.bitCount((forward ? own : kings) & sourcesToward(direction, empty));
+        }
+        return count;
+    }
+
+    // Протилежний колір
+    public static Piece.Color opposite(Piece.Color color) {
+        return color == Piece.Color.WHITE ? Piece.Color.BLACK : Piece.Color.WHITE;
+    }
+
+    // Перший із двох напрямків руху вперед для звичайної шашки
+    private static int forwardFirst(Piece.Color color) {
+        return color == Piece.Color.WHITE ? DOWN_LEFT : UP_LEFT;
+    }
+
+    // Рядок, на якому звичайна шашка стає дамкою
+    private static int promotionRow(Piece.Color color) {
+        return color == Piece.Color.WHITE ? ROW_7 : ROW_0;
+    }
+
+    // Клітинки, сусід яких у заданому напрямку належить масці targets
+    private static int sourcesToward(int direction, int targets) {
+        switch (direction) {
+            case DOWN_LEFT:
+                return ((targets >>> 4) & EVEN_ROWS) | ((targets >>> 3) & ODD_ROWS & ~COL_0);
+            case DOWN_RIGHT:
+                return ((targets >>> 5) & EVEN_ROWS & ~COL_7) | ((targets >>> 4) & ODD_ROWS);
+            case UP_LEFT:
+                return ((targets << 4) & EVEN_ROWS) | ((targets << 5) & ODD_ROWS & ~COL_0);
+            default:
+                return ((targets << 3) & EVEN_ROWS & ~COL_7) | ((targets << 4) & ODD_ROWS);
+        }
+    }
+
+    // Клітинки, з яких можливий стрибок через суперника на вільне поле
+    private static int jumpSources(int direction, int opponent, int empty) {
+        int jump = JUMP[direction];
+        int landing = jump > 0 ? empty >>> jump : empty << -jump;
+        return JUMP_SOURCES[direction] & sourcesToward(direction, opponent) & landing;
+    }
+
+    // Зсув до сусідньої клітинки
+    private static int step(int square, int direction) {
+        return ((square >> 2) & 1) == 0 ? STEP_EVEN[direction] : STEP_ODD[direction];
+    }
+
+    // Записати тихі ходи для всіх клітинок маски
+    private static void addSlides(MoveList moves, int movers, int direction, int promotionRow) {
+        while (movers != 0) {
+            int from = Integer.numberOfTrailingZeros(movers);
+            movers &= movers - 1;
+
+            int to = from + step(from, direction);
+            moves.add(MoveList.encode(from, to, ((promotionRow >>> to) & 1) != 0), 0);
+        }
+    }
+
+    // Пошук у глибину продовжень взяття; до буфера потрапляють лише максимальні ланцюжки
+    private static void addCaptureChains(MoveList moves, int firstChain, int origin, int square,
+                                         boolean king, int opponent, int empty, int captured,
+                                         int forwardFirst, int promotionRow) {
+        boolean extended = false;
+
+        for (int direction = 0; direction < 4; direction++) {
+            if (!king && direction != forwardFirst && direction != forwardFirst + 1) {
+                continue;
+            }
+            if (((JUMP_SOURCES[direction] >>> square) & 1) == 0) {
+                continue;
+            }
+
+            int to = square + JUMP[direction];
+            if (to < 0 || to >= Board.SQUARES) {
+                continue;
+            }
+
+            int overBit = 1 << (square + step(square, direction));
+            int toBit = 1 << to;
+            // Кожну шашку суперника можна взяти лише один раз; взяті знімаються в кінці ходу
+            if ((opponent & ~captured & overBit) == 0 || (empty & toBit) == 0) {
+                continue;
+            }
+
+            extended = true;
+            if ((promotionRow & toBit) != 0) {
+                // Звичайна шашка, що дійшла до останнього рядка, стає дамкою і хід завершується
+                addChain(moves, firstChain, MoveList.encode(origin, to, true), captured | overBit);
+            } else {
+                addCaptureChains(moves, firstChain, origin, to, king, opponent, empty, captured | overBit,
+                        forwardFirst, promotionRow);
+            }
+        }
+
+        if (!extended && captured != 0) {
+            addChain(moves, firstChain, MoveList.encode(origin, square, false), captured);
+        }
+    }
+
+    // Записати завершений ланцюжок, пропускаючи дублікати (дамка може обійти ті ж шашки іншим шляхом)
+    private static void addChain(MoveList moves, int firstChain, int move, int captured) {
+        for (int i = firstChain; i < moves.size(); i++) {
+            if (moves.getMove(i) == move && moves.getCaptured(i) == captured) {
+                return;
+            }
+        }
+        moves.add(move, captured);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.model.Player;
+
+public class MoveValidator {
+    // Маска взятих шашок не задана: з кількох ланцюжків між тими самими клітинками обирається найдовший
+    public static final int ANY_CAPTURED = -1;
+
+    // Буфер легальних ходів для isValidMove без буфера від викликача (свій у кожного потоку)
+    private static final ThreadLocal<MoveList> VALIDATION_MOVES = ThreadLocal.withInitial(MoveList::new);
+
+    // Перевірка валідності ходу
+    public static boolean isValidMove(Board board, Player player,
+                                      int fromRow, int fromCol,
+                                      int toRow, int toCol) {
+        return isValidMove(board, player, fromRow, fromCol, toRow, toCol, VALIDATION_MOVES.get());
+    }
+
+    // Перевірка валідності ходу з буфером ходів викликача
+    public static boolean isValidMove(Board board, Player player,
+                                      int fromRow, int fromCol,
+                                      int toRow, int toCol,
+                                      MoveList legalMoves) {
+        // Перевірка меж дошки
+        if (!isWithinBoardBounds(fromRow, fromCol, toRow, toCol)) {
+            return false;
+        }
+
+        Piece piece = board.getPieceAt(fromRow, fromCol);
+
+        // Перевірка наявності шашки
+        if (piece == null || piece.getColor() != player.getColor()) {
+            return false;
+        }
+
+        // Хід (або ланцюжок взяття) має бути серед легальних ходів з урахуванням обов'язкового взяття
+        return findLegalMove(board, player.getColor(), fromRow, fromCol, toRow, toCol, legalMoves) >= 0;
+    }
+
+    // Пошук легального ходу з клітинки на клітинку; повертає індекс у буфері або -1
+    public static int findLegalMove(Board board, Piece.Color color,
+                                    int fromRow, int fromCol,
+                                    int toRow, int toCol,
+                                    MoveList legalMoves) {
+        return findLegalMove(board, color, fromRow, fromCol, toRow, toCol, ANY_CAPTURED, legalMoves);
+    }
+
+    // Пошук легального ходу з точною маскою взятих шашок (ланцюжки з тими самими клітинками
+    // початку й кінця відрізняються лише нею); повертає індекс у буфері або -1
+    public static int findLegalMove(Board board, Piece.Color color,
+                                    int fromRow, int fromCol,
+                                    int toRow, int toCol,
+                                    int captured, MoveList legalMoves) {
+        int from = Board.toSquare(fromRow, fromCol);
+        int to = Board.toSquare(toRow, toCol);
+        if (from < 0 || to < 0) {
+            return -1;
+        }
+
+        MoveGenerator.generateMoves(board, color, legalMoves);
+
+        // Якщо кілька ланцюжків ведуть у ту саму клітинку, обираємо той, що бере найбільше шашок
+        int best = -1;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int move = legalMoves.getMove(i);
+            if (MoveList.from(move) != from || MoveList.to(move) != to) {
+                continue;
+            }
+            if (captured != ANY_CAPTURED) {
+                if (legalMoves.getCaptured(i) == captured) {
+                    return i;
+                }
+            } else if (best < 0 || Integer.bitCount(legalMoves.getCaptured(i))
+                    > Integer.bitCount(legalMoves.getCaptured(best))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // Перевірка меж дошки
+    private static boolean isWithinBoardBounds(int fromRow, int fromCol,
+                                               int toRow, int toCol) {
+        return fromRow >= 0 && fromRow < 8 &&
+                fromCol >= 0 && fromCol < 8 &&
+                toRow >= 0 && toRow < 8 &&
+                toCol >= 0 && toCol < 8;
+    }
+}
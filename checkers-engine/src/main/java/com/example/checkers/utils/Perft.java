@@ -0,0 +1,36 @@
+package com.example.checkers.utils;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+
+// Perft: кількість листів дерева ходів на заданій глибині для перевірки і заміру генератора ходів
+public class Perft {
+    // Кількість листів від позиції дошки для сторони, що ходить
+    public static long perft(Board board, int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        MoveList[] moveLists = new MoveList[depth];
+        for (int i = 0; i < depth; i++) {
+            moveLists[i] = new MoveList();
+        }
+        return perft(board, depth, moveLists);
+    }
+
+    // Рекурсія з буферами ходів на кожен рівень; на останньому рівні ходи лише рахуються
+    private static long perft(Board board, int depth, MoveList[] moveLists) {
+        MoveList moves = moveLists[depth - 1];
+        MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long leaves = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.getMove(i), moves.getCaptured(i));
+            leaves += perft(board, depth - 1, moveLists);
+            board.unmakeMove();
+        }
+        return leaves;
+    }
+}
@@ -42,8 +42,7 @@ class ComputerPlayerTest {
 
         // Перевірка, що хід був виконаний
         assertTrue(result);
-        verify(board, times(1)).removePieceAt(2, 2);
-        verify(board, times(1)).setPieceAt(3, 3, any(Piece.class));
+        verify(board, times(1)).makeMove(anyInt(), eq(0));
     }
 
     @Test
@@ -62,8 +61,7 @@ class ComputerPlayerTest {
 
         // Перевірка, що хід не був виконаний
         assertFalse(result);
-        verify(board, never()).removePieceAt(anyInt(), anyInt());
-        verify(board, never()).setPieceAt(anyInt(), anyInt(), any(Piece.class));
+        verify(board, never()).makeMove(anyInt(), anyInt());
     }
 
     @Test
@@ -82,7 +80,7 @@ class ComputerPlayerTest {
         computerPlayer.makeMove(board, 2, 2, 4, 4);
 
         // Перевіряємо, чи шашка була захоплена
-        verify(board, times(1)).removePieceAt(3, 3);
+        verify(board, times(1)).makeMove(anyInt(), eq(1 << Board.toSquare(3, 3)));
         assertEquals(1, computerPlayer.getCapturedPieces()); // Припустимо, метод для підрахунку захоплених шашок
     }
 
@@ -0,0 +1,111 @@
+package com.example.checkers;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.DrawRules;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DrawRulesTest {
+
+    // Виконати хід за номерами PDN
+    private static void play(Board board, int fromPdn, int toPdn) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.getMove(i);
+            if (MoveList.from(move) == BoardNotation.fromPdn(fromPdn) && MoveList.to(move) == BoardNotation.fromPdn(toPdn)) {
+                board.makeMove(move, moves.getCaptured(i));
+                return;
+            }
+        }
+        fail("Немає ходу " + fromPdn + "-" + toPdn);
+    }
+
+    @Test
+    public void testThreefoldRepetition() {
+        Board board = BoardNotation.fromFen("B:W29,K28:BK1,4");
+        DrawRules rules = DrawRules.STANDARD;
+
+        // Дамки ходять туди-назад: після двох кіл позиція повторюється втретє
+        for (int cycle = 0; cycle < 2; cycle++) {
+            assertFalse(rules.isDraw(board));
+            play(board, 1, 6);
+            play(board, 28, 32);
+            play(board, 6, 1);
+            play(board, 32, 28);
+            assertEquals(cycle + 2, board.getRepetitionCount());
+        }
+        assertTrue(rules.isDraw(board));
+        assertEquals(3, new Board(board).getRepetitionCount());
+
+        // Відкат повертає лічильники
+        board.unmakeMove();
+        board.unmakeMove();
+        assertEquals(2, board.getRepetitionCount());
+
+        // Хід простою шашкою незворотний - повторень і ходів без прогресу більше немає
+        board.unmakeMove();
+        board.unmakeMove();
+        play(board, 4, 8);
+        assertEquals(0, board.getNoProgressPlies());
+        assertEquals(1, board.getRepetitionCount());
+    }
+
+    @Test
+    public void testNoProgressCounter() {
+        Board board = BoardNotation.fromFen("B:W29,K28:BK1,4");
+        DrawRules rules = new DrawRules(DrawRules.DEFAULT_REPETITIONS, 4);
+        play(board, 1, 6);
+        play(board, 28, 24);
+        play(board, 6, 10);
+        assertEquals(3, board.getNoProgressPlies());
+        assertFalse(rules.isDraw(board));
+        play(board, 24, 19);
+        assertTrue(rules.isDraw(board));
+        assertTrue(rules.isSearchDraw(new Board(board)));
+    }
+
+    @Test
+    public void testRepetitionCountMatchesFullHistory() {
+        // Випадкові партії в ендшпілі з дамками: лічильник Board збігається з прямим підрахунком
+        Random random = new Random(5);
+        MoveList moves = new MoveList();
+        for (int game = 0; game < 50; game++) {
+            Board board = BoardNotation.fromFen("W:WK3,K10,14:BK22,K27,30");
+            List<Long> keys = new ArrayList<>();
+            List<Integer> progress = new ArrayList<>();
+            keys.add(board.getZobristKey());
+            progress.add(0);
+            for (int ply = 0; ply < 200; ply++) {
+                MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+                if (moves.isEmpty()) {
+                    break;
+                }
+                int index = random.nextInt(moves.size());
+                boolean irreversible = moves.getCaptured(index) != 0
+                        || (board.getKings() & (1 << MoveList.from(moves.getMove(index)))) == 0;
+                board.makeMove(moves.getMove(index), moves.getCaptured(index));
+                keys.add(board.getZobristKey());
+                progress.add(irreversible ? keys.size() - 1 : progress.get(progress.size() - 1));
+
+                // Позиції до останнього незворотного ходу не рахуються
+                int expected = 0;
+                for (int i = progress.get(progress.size() - 1); i < keys.size(); i++) {
+                    if (keys.get(i) == board.getZobristKey()) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, board.getRepetitionCount());
+                assertEquals(keys.size() - 1 - progress.get(progress.size() - 1), board.getNoProgressPlies());
+            }
+        }
+    }
+}
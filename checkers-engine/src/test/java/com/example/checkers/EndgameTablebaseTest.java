@@ -0,0 +1,87 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.EndgameTablebase;
+import com.example.checkers.ai.TablebaseGenerator;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndgameTablebaseTest {
+
+    // Генерує базу до трьох шашок (близько секунди) у тимчасовий файл
+    private static EndgameTablebase generate() throws IOException {
+        File file = File.createTempFile("endgame", ".cktb");
+        file.deleteOnExit();
+        TablebaseGenerator generator = new TablebaseGenerator(3);
+        generator.generate();
+        generator.write(file);
+        return EndgameTablebase.open(file);
+    }
+
+    @Test
+    public void testKnownResults() throws IOException {
+        EndgameTablebase tablebase = generate();
+
+        // Дві дамки проти однієї виграють, одна проти однієї - нічия
+        int twoKings = tablebase.probe(BoardNotation.fromFen("W:WK1,K2:BK32"));
+        assertTrue(EndgameTablebase.isWin(twoKings));
+        assertEquals(0, tablebase.probe(BoardNotation.fromFen("B:WK1:BK32")));
+
+        // Той самий виграш з боку чорних (позиція, повернута на 180 градусів)
+        int mirrored = tablebase.probe(BoardNotation.fromFen("B:WK32:BK1,K2"));
+        assertEquals(twoKings, mirrored);
+
+        // Позиції з більшою кількістю шашок у базі відсутні
+        assertEquals(EndgameTablebase.NOT_FOUND, tablebase.probe(new Board()));
+    }
+
+    @Test
+    public void testValuesAreConsistentWithChildren() throws IOException {
+        // Значення кожної позиції має випливати зі значень позицій після її ходів
+        EndgameTablebase tablebase = generate();
+        String[] positions = {
+                "W:WK1,K2:BK32", "B:W8,14:BK19", "W:W5,27:BK21", "B:WK10:B24,K30", "W:W21:B12"
+        };
+        MoveList moves = new MoveList();
+
+        for (String fen : positions) {
+            Board board = BoardNotation.fromFen(fen);
+            int value = tablebase.probe(board);
+            MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+
+            int shortestLoss = Integer.MAX_VALUE;
+            int longestWin = -1;
+            boolean draw = false;
+            for (int i = 0; i < moves.size(); i++) {
+                board.makeMove(moves.getMove(i), moves.getCaptured(i));
+                int child = board.getPieces(board.getSideToMove()) == 0 ? -1 : tablebase.probe(board);
+                board.unmakeMove();
+
+                if (EndgameTablebase.isLoss(child)) {
+                    shortestLoss = Math.min(shortestLoss, EndgameTablebase.distance(child));
+                } else if (child == 0) {
+                    draw = true;
+                } else {
+                    longestWin = Math.max(longestWin, EndgameTablebase.distance(child));
+                }
+            }
+
+            if (shortestLoss != Integer.MAX_VALUE) {
+                assertEquals(shortestLoss + 1, EndgameTablebase.distance(value), fen);
+                assertTrue(EndgameTablebase.isWin(value), fen);
+            } else if (draw) {
+                assertEquals(0, value, fen);
+            } else {
+                assertTrue(EndgameTablebase.isLoss(value), fen);
+                assertEquals(longestWin + 1, EndgameTablebase.distance(value), fen);
+            }
+        }
+    }
+}
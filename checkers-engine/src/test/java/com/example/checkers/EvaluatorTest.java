@@ -0,0 +1,73 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.EvalWeights;
+import com.example.checkers.ai.Evaluator;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluatorTest {
+
+    @Test
+    public void testStartPositionIsBalanced() {
+        // Початкова позиція симетрична, тому оцінка для обох сторін нульова
+        Evaluator evaluator = new Evaluator(EvalWeights.defaults());
+        Board board = new Board();
+        evaluator.attach(board);
+
+        assertEquals(0, evaluator.evaluate(board, Piece.Color.WHITE));
+        assertEquals(0, evaluator.evaluate(board, Piece.Color.BLACK));
+    }
+
+    @Test
+    public void testIncrementalScoreMatchesFullRecomputation() {
+        // Після кожного makeMove/unmakeMove інкрементальна оцінка має збігатися з перерахунком з нуля
+        Evaluator evaluator = new Evaluator(EvalWeights.defaults());
+        Board board = new Board();
+        evaluator.attach(board);
+        int initialScore = board.getPositionalScore();
+
+        Random random = new Random(42);
+        MoveList moves = new MoveList();
+        int played = 0;
+        while (played < 120) {
+            MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+            if (moves.isEmpty()) {
+                break;
+            }
+            int index = random.nextInt(moves.size());
+            board.makeMove(moves.getMove(index), moves.getCaptured(index));
+            played++;
+
+            Board fresh = new Board(board);
+            fresh.setPieceSquareTable(new int[4 * Board.SQUARES]);
+            evaluator.attach(fresh);
+            assertEquals(fresh.getPositionalScore(), board.getPositionalScore(), "Mismatch after ply " + played);
+        }
+
+        while (played-- > 0) {
+            board.unmakeMove();
+        }
+        assertEquals(initialScore, board.getPositionalScore());
+    }
+
+    @Test
+    public void testWeightsLoadedFromProperties() throws IOException {
+        // Відсутні ключі беруться зі значень за замовчуванням
+        String config = "man.value=90\nmobility=5\n";
+        EvalWeights weights = EvalWeights.load(new ByteArrayInputStream(config.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(90, weights.getManValue());
+        assertEquals(5, weights.getMobility());
+        assertEquals(EvalWeights.defaults().getKingValue(), weights.getKingValue());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.HumanPlayer;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameHistoryTest {
+
+    private static GameController newController() {
+        HumanPlayer human = new HumanPlayer("Гравець", Piece.Color.BLACK);
+        ComputerPlayer computer = new ComputerPlayer("Комп'ютер", Piece.Color.WHITE,
+                new SearchStrategy(4, Long.MAX_VALUE, new TranspositionTable(1)));
+        GameController controller = new GameController(human, computer);
+        controller.startGame();
+        return controller;
+    }
+
+    // Хід людини (перший легальний) і відповідь комп'ютера
+    private static void playTurn(GameController controller) {
+        Board board = controller.getBoard();
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(board, Piece.Color.BLACK, moves);
+        int move = moves.getMove(0);
+        assertTrue(controller.processPlayerMove(Board.rowOf(MoveList.from(move)), Board.colOf(MoveList.from(move)),
+                Board.rowOf(MoveList.to(move)), Board.colOf(MoveList.to(move))));
+        controller.processComputerMove();
+    }
+
+    @Test
+    public void testUndoRedoRestoresPositions() {
+        GameController controller = newController();
+        long[] keys = new long[5];
+        keys[0] = controller.getBoard().getZobristKey();
+        for (int turn = 1; turn < keys.length; turn++) {
+            playTurn(controller);
+            keys[turn] = controller.getBoard().getZobristKey();
+        }
+        assertEquals(8, controller.getRecord().size());
+
+        // Скасування відкочує хід людини разом з відповіддю комп'ютера
+        assertTrue(controller.undoMove());
+        assertEquals(keys[3], controller.getBoard().getZobristKey());
+        assertEquals(Piece.Color.BLACK, controller.getCurrentPlayer().getColor());
+        assertTrue(controller.redoMove());
+        assertEquals(keys[4], controller.getBoard().getZobristKey());
+        assertFalse(controller.canRedo());
+
+        while (controller.canUndo()) {
+            controller.undoMove();
+        }
+        assertEquals(keys[0], controller.getBoard().getZobristKey());
+        assertEquals(0, controller.getBoard().getUndoDepth());
+
+        // Новий хід після скасування відкидає гілку повтору
+        controller.redoMove();
+        assertEquals(keys[1], controller.getBoard().getZobristKey());
+        playTurn(controller);
+        assertFalse(controller.canRedo());
+    }
+
+    @Test
+    public void testRestoredGameCanBeUndone() {
+        GameController controller = newController();
+        for (int turn = 0; turn < 3; turn++) {
+            playTurn(controller);
+        }
+        long key = controller.getBoard().getZobristKey();
+        byte[] data = controller.saveGame();
+
+        GameController restored = newController();
+        restored.restoreGame(data);
+        assertEquals(key, restored.getBoard().getZobristKey());
+        assertEquals(controller.getBoard().getUndoDepth(), restored.getBoard().getUndoDepth());
+
+        restored.undoMove();
+        controller.undoMove();
+        assertEquals(controller.getBoard().getZobristKey(), restored.getBoard().getZobristKey());
+    }
+
+    @Test
+    public void testRestoreKeepsGameState() {
+        GameController controller = newController();
+        playTurn(controller);
+        GameController restored = newController();
+        restored.restoreGame(controller.saveGame());
+        assertEquals(GameController.GameState.IN_PROGRESS, restored.getGameState());
+
+        // Після здачі партія не почата і після відновлення
+        controller.endGame();
+        restored.restoreGame(controller.saveGame());
+        assertEquals(GameController.GameState.NOT_STARTED, restored.getGameState());
+        assertFalse(restored.canUndo());
+        assertEquals(0, restored.getMovableSquares());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.checkers;
+
+import com.example.checkers.controller.GameRecord;
+import com.example.checkers.controller.GameStore;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRecordTest {
+
+    // Випадкова партія: ходи виконуються на дошці і записуються індексами
+    private static GameRecord playRandomGame(Board board, int plies, long seed) {
+        GameRecord record = new GameRecord(board);
+        Random random = new Random(seed);
+        MoveList moves = new MoveList();
+        for (int ply = 0; ply < plies; ply++) {
+            MoveGenerator.generateMoves(board, board.getSideToMove(), moves);
+            if (moves.isEmpty()) {
+                break;
+            }
+            int index = random.nextInt(moves.size());
+            board.makeMove(moves.getMove(index), moves.getCaptured(index));
+            record.add(index);
+        }
+        return record;
+    }
+
+    @Test
+    public void testRoundTripReplaysMoves() {
+        Board board = new Board();
+        GameRecord record = playRandomGame(board, 60, 7);
+
+        // Заголовок, стан гри, два знімки, лічильник і по байту на хід
+        byte[] data = record.toBytes(board);
+        assertEquals(8 + 1 + 2 * GameRecord.SNAPSHOT_BYTES + 4 + record.size(), data.length);
+
+        Board restored = new Board();
+        GameRecord restoredRecord = GameRecord.fromBytes(data, restored);
+        assertEquals(record.size(), restoredRecord.size());
+        assertEquals(board.getZobristKey(), restored.getZobristKey());
+        assertEquals(board.getSideToMove(), restored.getSideToMove());
+
+        // Відтворення заповнює стек відкату, тож партію можна відкотити до початку
+        assertEquals(record.size(), restored.getUndoDepth());
+        while (restored.getUndoDepth() > 0) {
+            restored.unmakeMove();
+        }
+        assertEquals(new Board().getZobristKey(), restored.getZobristKey());
+    }
+
+    @Test
+    public void testCorruptedLogFallsBackToSnapshot() {
+        Board board = new Board();
+        GameRecord record = playRandomGame(board, 20, 11);
+        byte[] data = record.toBytes(board);
+        data[data.length - 1] = (byte) 200;
+
+        Board restored = new Board();
+        GameRecord restoredRecord = GameRecord.fromBytes(data, restored);
+        assertEquals(board.getZobristKey(), restored.getZobristKey());
+        assertEquals(0, restoredRecord.size());
+
+        // Лічильники взятих шашок рахуються від початку партії, а не від знімка
+        assertEquals(12, restoredRecord.getStartPieceCount(Piece.Color.WHITE));
+        assertEquals(12, restoredRecord.getStartPieceCount(Piece.Color.BLACK));
+    }
+
+    @Test
+    public void testStoreWritesLatestSave() throws IOException {
+        File file = File.createTempFile("game", ".ckgr");
+        file.deleteOnExit();
+        GameStore store = new GameStore(file, e -> fail(e));
+
+        Board board = new Board();
+        GameRecord record = playRandomGame(board, 10, 3);
+        store.saveAsync(new byte[]{1, 2, 3});
+        byte[] latest = record.toBytes(board);
+        store.saveAsync(latest);
+        store.shutdown();
+
+        assertArrayEquals(latest, store.load());
+    }
+}
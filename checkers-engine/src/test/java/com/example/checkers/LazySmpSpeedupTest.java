@@ -0,0 +1,28 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Час до глибини для різної кількості потоків міряє LazySmpBenchmark у модулі benchmarks
+public class LazySmpSpeedupTest {
+
+    @Test
+    public void testMultiThreadedSearchReturnsLegalMove() {
+        SearchStrategy strategy = new SearchStrategy(6, Long.MAX_VALUE, new TranspositionTable(1), 4);
+        Board board = new Board();
+
+        AIStrategy.Move move = strategy.chooseMove(board, Piece.Color.BLACK);
+        assertNotNull(move, "Expected a move from the start position.");
+        assertEquals(6, strategy.getCompletedDepth());
+        assertTrue(MoveValidator.findLegalMove(board, Piece.Color.BLACK, move.fromRow, move.fromCol,
+                move.toRow, move.toCol, move.captured, new MoveList()) >= 0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.GameRecord;
+import com.example.checkers.controller.HumanPlayer;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LegalMoveCacheTest {
+
+    private static GameController newController() {
+        HumanPlayer human = new HumanPlayer("Гравець", Piece.Color.BLACK);
+        ComputerPlayer computer = new ComputerPlayer("Комп'ютер", Piece.Color.WHITE,
+                new SearchStrategy(4, Long.MAX_VALUE, new TranspositionTable(1)));
+        return new GameController(human, computer);
+    }
+
+    // Кеш контролера збігається з ходами генератора
+    private static void assertCacheMatches(GameController controller) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(controller.getBoard(), Piece.Color.BLACK, moves);
+        int movable = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int from = MoveList.from(moves.getMove(i));
+            int to = MoveList.to(moves.getMove(i));
+            movable |= 1 << from;
+            assertTrue(controller.isLegalMove(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to)));
+        }
+        assertEquals(movable, controller.getMovableSquares());
+
+        int targets = 0;
+        for (int square = 0; square < Board.SQUARES; square++) {
+            targets += Integer.bitCount(controller.getLegalTargets(Board.rowOf(square), Board.colOf(square)));
+        }
+        assertTrue(targets <= moves.size());
+    }
+
+    @Test
+    public void testCacheFollowsTurns() {
+        GameController controller = newController();
+        controller.startGame();
+        assertCacheMatches(controller);
+
+        int from = BoardNotation.fromPdn(11);
+        int to = BoardNotation.fromPdn(15);
+        assertFalse(controller.isLegalMove(Board.rowOf(from), Board.colOf(from), Board.rowOf(from) + 2, Board.colOf(from)));
+        assertTrue(controller.processPlayerMove(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to)));
+
+        // Хід комп'ютера: людині ходити нічим
+        assertEquals(0, controller.getMovableSquares());
+        controller.processComputerMove();
+        assertCacheMatches(controller);
+
+        controller.undoMove();
+        assertCacheMatches(controller);
+        controller.endGame();
+        assertEquals(0, controller.getMovableSquares());
+    }
+
+    @Test
+    public void testForcedCaptureLimitsSelection() {
+        Board board = BoardNotation.fromFen("B:W18:B1,14");
+        GameController controller = newController();
+        controller.startGame();
+        controller.restoreGame(new GameRecord(board).toBytes(board));
+
+        // Взяття обов'язкове: шашка на 1 не рухається, шашка на 14 може лише бити
+        int capturing = BoardNotation.fromPdn(14);
+        assertEquals(1 << capturing, controller.getMovableSquares());
+        assertEquals(1 << BoardNotation.fromPdn(23),
+                controller.getLegalTargets(Board.rowOf(capturing), Board.colOf(capturing)));
+        assertCacheMatches(controller);
+    }
+
+    @Test
+    public void testExactCaptureChain() {
+        // Дамка з 17 може прийти на 1 двома ланцюжками: через 14 і 6 або через 23, 22, 15 і 6
+        Board board = BoardNotation.fromFen("B:W6,14,15,22,23,25:BK17");
+        GameController controller = newController();
+        controller.startGame();
+        controller.restoreGame(new GameRecord(board).toBytes(board));
+
+        int from = BoardNotation.fromPdn(17);
+        int to = BoardNotation.fromPdn(1);
+        int[] chains = new int[MoveList.CAPACITY];
+        assertEquals(2, controller.getLegalChains(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to), chains));
+        int shortChain = (1 << BoardNotation.fromPdn(14)) | (1 << BoardNotation.fromPdn(6));
+        assertTrue(chains[0] == shortChain || chains[1] == shortChain);
+        assertFalse(controller.isLegalMove(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to),
+                1 << BoardNotation.fromPdn(14)));
+
+        // Виконується саме вибраний ланцюжок, хоча інший бере більше шашок
+        assertTrue(controller.processPlayerMove(Board.rowOf(from), Board.colOf(from), Board.rowOf(to), Board.colOf(to),
+                shortChain));
+        assertEquals(4, Integer.bitCount(controller.getBoard().getWhitePieces()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.HumanPlayer;
+import com.example.checkers.controller.MoveEvent;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveEventTest {
+
+    @Test
+    public void testEventsListChangedSquares() {
+        HumanPlayer human = new HumanPlayer("Гравець", Piece.Color.BLACK);
+        ComputerPlayer computer = new ComputerPlayer("Комп'ютер", Piece.Color.WHITE,
+                new SearchStrategy(4, Long.MAX_VALUE, new TranspositionTable(1)));
+        GameController controller = new GameController(human, computer);
+        List<MoveEvent> events = new ArrayList<>();
+        controller.setMoveListener(events::add);
+        controller.startGame();
+
+        MoveList moves = new MoveList();
+        for (int turn = 0; turn < 10 && controller.getGameState() == GameController.GameState.IN_PROGRESS; turn++) {
+            Board board = controller.getBoard();
+
+            // Хід людини - останній легальний (різні ходи, зокрема взяття)
+            MoveGenerator.generateMoves(board, Piece.Color.BLACK, moves);
+            int move = moves.getMove(moves.size() - 1);
+            assertTrue(controller.processPlayerMove(Board.rowOf(MoveList.from(move)), Board.colOf(MoveList.from(move)),
+                    Board.rowOf(MoveList.to(move)), Board.colOf(MoveList.to(move))));
+            MoveEvent event = events.get(events.size() - 1);
+            assertEquals(Piece.Color.BLACK, event.getColor());
+            assertEquals(MoveList.from(move), event.getFromSquare());
+            assertEquals(MoveList.to(move), event.getToSquare());
+            assertEquals(moves.getCaptured(moves.size() - 1), event.getCapturedSquares());
+
+            // Відповідь комп'ютера: змінені клітинки покривають різницю позицій
+            int white = board.getWhitePieces();
+            int black = board.getBlackPieces();
+            int before = events.size();
+            controller.processComputerMove();
+            if (events.size() > before) {
+                event = events.get(events.size() - 1);
+                assertEquals(Piece.Color.WHITE, event.getColor());
+                int changed = (white ^ board.getWhitePieces()) | (black ^ board.getBlackPieces());
+                assertEquals(changed, changed & event.getChangedSquares());
+            }
+        }
+        assertTrue(events.size() >= 2);
+    }
+
+    @Test
+    public void testPathFollowsJumpChain() {
+        // Подвійне взяття 14x23x32: шлях проходить через проміжне приземлення
+        Board board = BoardNotation.fromFen("B:W18,27:B14");
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(board, Piece.Color.BLACK, moves);
+        assertEquals(1, moves.size());
+        int occupied = board.getWhitePieces() | board.getBlackPieces();
+        MoveEvent event = new MoveEvent(Piece.Color.BLACK, moves.getMove(0), moves.getCaptured(0), 0, false, occupied);
+        assertArrayEquals(new int[]{BoardNotation.fromPdn(14), BoardNotation.fromPdn(23), BoardNotation.fromPdn(32)},
+                event.getPath());
+
+        // Простий хід - лише дві клітинки
+        int slide = MoveList.encode(BoardNotation.fromPdn(14), BoardNotation.fromPdn(17), false);
+        assertEquals(2, new MoveEvent(Piece.Color.BLACK, slide, 0, 0, false, occupied).getPath().length);
+    }
+
+    @Test
+    public void testKingLoopLandsOnEmptySquares() {
+        // Дамка з 17 обходить шашки 23, 22, 15 і 14 і повертається на 17
+        Board board = BoardNotation.fromFen("B:W6,14,15,22,23,25:BK17");
+        int occupied = board.getWhitePieces() | board.getBlackPieces();
+        int from = BoardNotation.fromPdn(17);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(board, Piece.Color.BLACK, moves);
+        int loop = -1;
+        for (int i = 0; i < moves.size(); i++) {
+            if (MoveList.to(moves.getMove(i)) == from) {
+                loop = i;
+            }
+        }
+        assertTrue(loop >= 0);
+
+        MoveEvent event = new MoveEvent(Piece.Color.BLACK, moves.getMove(loop), moves.getCaptured(loop), 0, true, occupied);
+        int[] path = event.getPath();
+        assertEquals(5, path.length);
+        assertEquals(from, path[0]);
+        assertEquals(from, path[4]);
+        for (int i = 1; i < path.length - 1; i++) {
+            assertEquals(0, occupied & (1 << path[i]));
+        }
+
+        // Якщо приземлення зайняте, ланцюжка немає - лише початок і кінець
+        event = new MoveEvent(Piece.Color.BLACK, moves.getMove(loop), moves.getCaptured(loop), 0, true,
+                occupied | (1 << path[2]));
+        assertArrayEquals(new int[]{from, from}, event.getPath());
+    }
+
+    @Test
+    public void testManJumpsOnlyForward() {
+        // Біла шашка б'є лише вниз, тож ланцюжок 14x23x32 можливий тільки для дамки
+        Board board = BoardNotation.fromFen("B:W18,27:B14");
+        int occupied = board.getWhitePieces() | board.getBlackPieces();
+        int move = MoveList.encode(BoardNotation.fromPdn(14), BoardNotation.fromPdn(32), false);
+        int captured = (1 << BoardNotation.fromPdn(18)) | (1 << BoardNotation.fromPdn(27));
+        assertEquals(2, new MoveEvent(Piece.Color.WHITE, move, captured, 0, false, occupied).getPath().length);
+        assertEquals(3, new MoveEvent(Piece.Color.WHITE, move, captured, 0, true, occupied).getPath().length);
+    }
+}
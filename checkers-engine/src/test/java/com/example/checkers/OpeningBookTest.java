@@ -0,0 +1,89 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.AIStrategy;
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.OpeningBook;
+import com.example.checkers.ai.OpeningBookGenerator;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.BoardNotation;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpeningBookTest {
+
+    // Три партії з 11-15 і одна з 9-13; теги, коментарі й номери ходів мають ігноруватися
+    private static final String PDN =
+            "[Event \"Test\"]\n[Result \"1-0\"]\n1. 11-15 23-19 {основний варіант} 2. 8-11 22-17 1-0\n"
+                    + "[Event \"Test\"]\n1. 11-15 23-19 2. 9-14 27-23 1/2-1/2\n"
+                    + "1. 11-15 22-18 2. 15x22 25x18 0-1\n"
+                    + "[FEN \"B:W21-32:B1-12\"]\n1. 9-13 22-18 *\n";
+
+    private static File writeBook() throws IOException {
+        OpeningBookGenerator generator = new OpeningBookGenerator(OpeningBookGenerator.DEFAULT_BOOK_PLIES);
+        assertEquals(4, generator.addPdn(PDN));
+
+        File file = File.createTempFile("opening", ".ckob");
+        file.deleteOnExit();
+        generator.write(file);
+        return file;
+    }
+
+    @Test
+    public void testBookMovesFollowWeights() throws IOException {
+        OpeningBook book = OpeningBook.open(writeBook());
+        Board board = BoardNotation.fromFen(BoardNotation.INITIAL_FEN);
+        int from = BoardNotation.fromPdn(11);
+        int mainLine = 0;
+        int sideLine = 0;
+
+        // Хід з книги обирається випадково, але 11-15 зіграно втричі частіше за 9-13
+        for (int i = 0; i < 400; i++) {
+            AIStrategy.Move move = book.chooseMove(board, Piece.Color.BLACK);
+            assertNotNull(move);
+            if (move.fromRow == Board.rowOf(from) && move.fromCol == Board.colOf(from)) {
+                mainLine++;
+            } else {
+                sideLine++;
+            }
+        }
+        assertTrue(sideLine > 0);
+        assertTrue(mainLine > 2 * sideLine);
+
+        // Позиції поза книгою і та сама позиція з іншою стороною ходу
+        assertNull(book.chooseMove(BoardNotation.fromFen("W:W18,K30:B5"), Piece.Color.WHITE));
+        assertFalse(book.contains(board, Piece.Color.WHITE));
+    }
+
+    @Test
+    public void testFenKeptAcrossHeaderTags() {
+        // FEN стоїть перед іншими тегами заголовка тієї ж партії
+        OpeningBookGenerator generator = new OpeningBookGenerator(OpeningBookGenerator.DEFAULT_BOOK_PLIES);
+        assertEquals(2, generator.addPdn("[Event \"Ending\"]\n[FEN \"W:W18,K30:B5\"]\n[Result \"*\"]\n1. 30-26 *\n"
+                + "[Event \"Test\"]\n1. 11-15 *\n"));
+        assertEquals(2, generator.size());
+    }
+
+    @Test
+    public void testComputerPlayerUsesBookWithoutSearch() throws IOException {
+        ComputerPlayer player = new ComputerPlayer("Комп'ютер", Piece.Color.WHITE, (board, color) -> {
+            throw new AssertionError("Для позиції з книги пошук не потрібен");
+        });
+        try (InputStream in = new FileInputStream(writeBook())) {
+            player.setOpeningBook(OpeningBook.load(in));
+        }
+
+        // Після 11-15 у книзі є 23-19 і 22-18
+        Board board = BoardNotation.fromFen("W:W21-32:B1-10,12,15");
+        AIStrategy.Move move = player.chooseMove(board);
+        int to = BoardNotation.fromPdn(move.fromCol == Board.colOf(BoardNotation.fromPdn(23)) ? 19 : 18);
+        assertEquals(Board.rowOf(to), move.toRow);
+        assertEquals(Board.colOf(to), move.toCol);
+    }
+}
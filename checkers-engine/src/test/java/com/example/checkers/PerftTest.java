@@ -0,0 +1,57 @@
+package com.example.checkers;
+
+import com.example.checkers.model.Board;
+import com.example.checkers.utils.BoardNotation;
+import com.example.checkers.utils.Perft;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerftTest {
+
+    // Позиції (FEN у нумерації PDN) і очікувана кількість листів для глибин 1..n.
+    // Значення звірені з незалежним наївним генератором на масиві 8x8
+    private static final Object[][] POSITIONS = {
+            // Початкова позиція
+            {BoardNotation.INITIAL_FEN, new long[]{7, 49, 302, 1469, 7361, 36768, 179740, 845931}},
+            // Дамки обох кольорів у центрі
+            {"W:WK10,K14,21,22:BK19,K23,5,6", new long[]{1, 7, 43, 261, 1388, 7863, 46555}},
+            // Ланцюжки по три взяття з перетворенням на дамку посеред стрибків
+            {"B:W6,7,14,15,23,24:B1,K3", new long[]{6, 34, 70, 306, 1224, 6203, 24648}},
+            // Дамка бере три шашки за хід
+            {"W:WK28:B24,20,15,16,7,8,11,12", new long[]{1, 3, 3, 16, 45, 207, 428}},
+            // Змішана позиція з дамками і звичайними шашками
+            {"B:W18,19,26,27,K10:B2,3,K30,12", new long[]{3, 20, 100, 402, 1805, 7607, 33943}},
+            // Щільна середина гри з обов'язковими взяттями
+            {"W:W14,15,16,18,19,22,23,24,26,27,31:B3,4,5,7,8,9,10,11,12,13,20",
+                    new long[]{1, 3, 5, 6, 24, 65, 305}},
+            // Лише дамки: велике розгалуження
+            {"B:WK1,K2,K3,K4:BK29,K30,K31,K32", new long[]{7, 49, 350, 2500, 20200, 163216}},
+    };
+
+    @Test
+    public void testKnownPositions() {
+        for (Object[] position : POSITIONS) {
+            String fen = (String) position[0];
+            long[] expected = (long[]) position[1];
+            Board board = BoardNotation.fromFen(fen);
+
+            for (int depth = 1; depth <= expected.length; depth++) {
+                assertEquals(expected[depth - 1], Perft.perft(board, depth), fen + " depth " + depth);
+            }
+            // Після perft дошка має повернутися у вихідну позицію
+            assertEquals(BoardNotation.fromFen(fen).getZobristKey(), board.getZobristKey());
+        }
+    }
+
+    @Test
+    public void testFenRoundTrip() {
+        // Запис у FEN і розбір назад дають ту саму позицію
+        for (Object[] position : POSITIONS) {
+            Board board = BoardNotation.fromFen((String) position[0]);
+            Board parsed = BoardNotation.fromFen(BoardNotation.toFen(board));
+            assertEquals(board.getZobristKey(), parsed.getZobristKey());
+        }
+        assertEquals(new Board().getZobristKey(), BoardNotation.fromFen(BoardNotation.INITIAL_FEN).getZobristKey());
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.checkers;
+
+import com.example.checkers.ai.ComputerPlayer;
+import com.example.checkers.ai.SearchProgress;
+import com.example.checkers.ai.SearchStrategy;
+import com.example.checkers.ai.TranspositionTable;
+import com.example.checkers.controller.GameController;
+import com.example.checkers.controller.HumanPlayer;
+import com.example.checkers.model.Board;
+import com.example.checkers.model.MoveList;
+import com.example.checkers.model.Piece;
+import com.example.checkers.utils.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PonderingTest {
+
+    // Колбеки контролера виконуються в потоці тесту, як на головному потоці Android
+    private final BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    private final AtomicInteger searches = new AtomicInteger();
+    private boolean moveFinished;
+
+    // Кількість пошуків на момент ходу комп'ютера: одразу після колбека контролер ставить у чергу
+    // наступний пондеринг, тож лічильник читається в самому колбеку
+    private int searchesAtMove;
+
+    private final GameController.ComputerMoveCallback callback = new GameController.ComputerMoveCallback() {
+        @Override
+        public void onSearchProgress(SearchProgress progress) {
+        }
+
+        @Override
+        public void onComputerMoveFinished(boolean moveMade) {
+            assertTrue(moveMade);
+            searchesAtMove = searches.get();
+            moveFinished = true;
+        }
+    };
+
+    private GameController newController() {
+        SearchStrategy strategy = new SearchStrategy(6, Long.MAX_VALUE, new TranspositionTable(1)) {
+            @Override
+            public synchronized Move chooseMove(Board board, Piece.Color aiColor, long stopToken) {
+                searches.incrementAndGet();
+                return super.chooseMove(board, aiColor, stopToken);
+            }
+        };
+        GameController controller = new GameController(new HumanPlayer("Гравець", Piece.Color.BLACK),
+                new ComputerPlayer("Комп'ютер", Piece.Color.WHITE, strategy), callbacks::add);
+        controller.setPonderingEnabled(true);
+        controller.startGame();
+        return controller;
+    }
+
+    private void playHuman(GameController controller, int move) {
+        assertTrue(controller.processPlayerMove(Board.rowOf(MoveList.from(move)), Board.colOf(MoveList.from(move)),
+                Board.rowOf(MoveList.to(move)), Board.colOf(MoveList.to(move))));
+    }
+
+    // Хід комп'ютера до кінця: виконуємо колбеки, доки хід не зроблено
+    private void awaitComputerMove(GameController controller) throws InterruptedException {
+        moveFinished = false;
+        assertTrue(controller.requestComputerMove(callback));
+        while (!moveFinished) {
+            Runnable task = callbacks.poll(30, TimeUnit.SECONDS);
+            assertNotNull(task);
+            task.run();
+        }
+        assertEquals(Piece.Color.BLACK, controller.getCurrentPlayer().getColor());
+    }
+
+    // Дочекатися, доки фоновий потік почне задану кількість пошуків (пондеринг стартує асинхронно)
+    private void awaitSearches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (searches.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, searches.get());
+    }
+
+    // Хід людини, відмінний від передбаченого
+    private static int otherMove(Board board, int predicted) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(board, Piece.Color.BLACK, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.getMove(i) != predicted) {
+                return moves.getMove(i);
+            }
+        }
+        throw new AssertionError("Немає іншого ходу");
+    }
+
+    @Test
+    public void testPonderHitReusesPonderSearch() throws InterruptedException {
+        GameController controller = newController();
+        playHuman(controller, otherMove(controller.getBoard(), -1));
+        awaitComputerMove(controller);
+
+        // Після ходу комп'ютера пошук триває на позиції після передбаченого ходу людини
+        assertTrue(controller.isPondering());
+        assertFalse(controller.isComputerThinking());
+        awaitSearches(2);
+        playHuman(controller, controller.getPonderMove());
+        awaitComputerMove(controller);
+        assertEquals(2, searchesAtMove);
+    }
+
+    @Test
+    public void testPonderMissStartsNewSearch() throws InterruptedException {
+        GameController controller = newController();
+        playHuman(controller, otherMove(controller.getBoard(), -1));
+        awaitComputerMove(controller);
+        assertTrue(controller.isPondering());
+
+        // Чекаємо, доки пондеринг справді почне рахувати
+        awaitSearches(2);
+
+        // Інший хід: пондеринг зупиняється, новий пошук рахує ту саму позицію, що й без пондерингу
+        playHuman(controller, otherMove(controller.getBoard(), controller.getPonderMove()));
+        awaitComputerMove(controller);
+        assertEquals(3, searchesAtMove);
+
+        controller.undoMove();
+        assertFalse(controller.isPondering());
+    }
+
+    @Test
+    public void testStopBeforeSearchStartsIsKept() {
+        // stop() між постановкою пошуку в чергу і його стартом не губиться
+        SearchStrategy strategy = new SearchStrategy(8, Long.MAX_VALUE, new TranspositionTable(1));
+        long token = strategy.stopToken();
+        strategy.stop();
+        assertNotNull(strategy.chooseMove(new Board(), Piece.Color.BLACK, token));
+        assertTrue(strategy.getCompletedDepth() < 8);
+
+        // Новий пошук зі свіжим токеном рахує до кінця
+        assertNotNull(strategy.chooseMove(new Board(), Piece.Color.BLACK));
+        assertEquals(8, strategy.getCompletedDepth());
+    }
+
+    @Test
+    public void testPonderingHasTimeLimit() {
+        // Пондеринг обмежений кількома звичайними лімітами часу, а не лише глибиною
+        SearchStrategy strategy = new SearchStrategy(60, 20, new TranspositionTable(1));
+        strategy.setPondering(true);
+        assertNotNull(strategy.chooseMove(new Board(), Piece.Color.BLACK));
+        assertTrue(strategy.getCompletedDepth() < 60);
+    }
+}
@@ -21,3 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "lab3_oop"
 include(":app")
+include(":checkers-engine")
+include(":benchmarks")